@@ -0,0 +1,54 @@
+package cu.lt.joe.jcalc.server;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+
+/**
+ * This class holds the state of a connection accepted by a {@link JCalcServer}. Except for the
+ * queue of responses and the flag used to schedule their writing, which are shared with the
+ * worker threads, everything here is only accessed from the selector thread of the server.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class Connection
+{
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    final SocketChannel channel;
+    final SelectionKey key;
+    final Queue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+    final AtomicBoolean writeScheduled = new AtomicBoolean();
+    ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
+    int pendingRequests = 0;
+
+    Connection(SocketChannel channel, SelectionKey key)
+    {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Makes sure the read buffer can hold a whole frame of the given length, keeping the bytes
+     * already read.
+     *
+     * @param frameLength the length of the frame, including its length prefix
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    void ensureReadCapacity(int frameLength)
+    {
+        if (readBuffer.capacity() < frameLength)
+        {
+            ByteBuffer biggerBuffer = ByteBuffer.allocate(Math.max(frameLength, readBuffer.capacity() * 2));
+            readBuffer.flip();
+            biggerBuffer.put(readBuffer);
+            readBuffer = biggerBuffer;
+        }
+    }
+}
\ No newline at end of file
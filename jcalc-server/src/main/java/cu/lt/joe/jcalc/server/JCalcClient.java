@@ -0,0 +1,177 @@
+package cu.lt.joe.jcalc.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+
+/**
+ * This class is a blocking client for a {@link JCalcServer}. Requests are buffered until
+ * {@link #flush()} is called, so many of them can be sent at once, and their responses can be
+ * received later with {@link #receive()}, in the order the server sends them. This class is not
+ * thread-safe, but a thread can send requests while another one receives responses.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class JCalcClient implements Closeable
+{
+    private final Socket socket;
+    private final OutputStream output;
+    private final DataInputStream input;
+
+    /**
+     * Creates a new client connected to the server found at the given address.
+     *
+     * @param address the address of the server
+     * @throws IOException when the connection can't be established
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public JCalcClient(InetSocketAddress address) throws IOException
+    {
+        socket = new Socket(address.getAddress(), address.getPort());
+        socket.setTcpNoDelay(true);
+        output = new BufferedOutputStream(socket.getOutputStream(), 1 << 16);
+        input = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+    }
+
+    /**
+     * Sends the settings defined in the given {@link ConfigurationBuilder} instance, which will be
+     * used to solve every Math expression sent after them through this client.
+     *
+     * @param requestId            the id of the request
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @throws IOException when the request can't be sent
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public void sendConfiguration(int requestId, ConfigurationBuilder configurationBuilder) throws IOException
+    {
+        writeFrame(Protocol.encodeConfiguration(requestId, configurationBuilder));
+    }
+
+    /**
+     * Sends a Math expression to solve.
+     *
+     * @param requestId      the id of the request, used to match its response
+     * @param mathExpression a {@link String} containing the Math expression to solve
+     * @throws IOException when the request can't be sent
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public void sendExpression(int requestId, String mathExpression) throws IOException
+    {
+        writeFrame(Protocol.encodeExpression(requestId, mathExpression));
+    }
+
+    /**
+     * Sends every buffered request to the server.
+     *
+     * @throws IOException when the requests can't be sent
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public void flush() throws IOException
+    {
+        output.flush();
+    }
+
+    /**
+     * Waits for the next response sent by the server.
+     *
+     * @return The next {@link Response} sent by the server
+     * @throws IOException when the response can't be received or the connection is closed
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public Response receive() throws IOException
+    {
+        int frameLength = input.readInt();
+        if (frameLength < Protocol.REQUEST_HEADER_SIZE || frameLength > Protocol.MAX_FRAME_LENGTH)
+            throw new IOException("Invalid frame length " + frameLength);
+        int requestId = input.readInt();
+        byte status = input.readByte();
+        byte[] text = new byte[frameLength - Protocol.REQUEST_HEADER_SIZE];
+        input.readFully(text);
+        return new Response(requestId, status, status == Protocol.STATUS_EMPTY ? null : new String(text, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        socket.close();
+    }
+
+    private void writeFrame(ByteBuffer frame) throws IOException
+    {
+        output.write(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+    }
+
+    /**
+     * A response sent by a {@link JCalcServer}.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static final class Response
+    {
+        private final int requestId;
+        private final byte status;
+        private final String text;
+
+        private Response(int requestId, byte status, String text)
+        {
+            this.requestId = requestId;
+            this.status = status;
+            this.text = text;
+        }
+
+        /**
+         * Method to get the id of the request answered by this response.
+         *
+         * @return The id of the request answered by this response
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        public int getRequestId()
+        {
+            return requestId;
+        }
+
+        /**
+         * Method to get the status of this response, which is one of {@link Protocol#STATUS_RESULT},
+         * {@link Protocol#STATUS_EMPTY} and {@link Protocol#STATUS_ERROR}.
+         *
+         * @return The status of this response
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        public byte getStatus()
+        {
+            return status;
+        }
+
+        /**
+         * Method to get the result of the Math expression or the error message held by this
+         * response.
+         *
+         * @return The result or the error message held by this response, or {@code null} when the
+         * Math expression was empty
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        public String getText()
+        {
+            return text;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,547 @@
+package cu.lt.joe.jcalc.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+import cu.lt.joe.jcalc.JCalc;
+
+/**
+ * This class is a small TCP server that solves the Math expressions sent by other processes, so
+ * they can use this library without starting a new JVM every time. It follows the protocol
+ * described in {@link Protocol}, which allows every connection to send many requests without
+ * waiting for their responses. A single thread reads every request using a {@link Selector}, and
+ * the Math expressions read at once are split into batches solved by a pool of worker threads.
+ * Every connection has its own {@link ConfigurationBuilder}, replaced by every
+ * {@link Protocol#CONFIGURE} request it sends. Every Math expression must be solved within a time
+ * limit; otherwise, its evaluation is cancelled and an error is sent back, so a single expensive
+ * Math expression can't keep a worker thread busy forever. Since this module targets Java 8, only
+ * TCP is supported; Unix domain sockets require Java 16 or newer.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class JCalcServer implements Closeable
+{
+    private static final int DEFAULT_PORT = 7575;
+    private static final long DEFAULT_TIME_LIMIT_MILLIS = 10_000;
+    private static final int MAX_PENDING_REQUESTS = 4096;
+    private static final int MAX_BUFFERS_PER_WRITE = 64;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final ScheduledThreadPoolExecutor watchdog;
+    private final int workerThreads;
+    private final long timeLimitMillis;
+    private final Thread selectorThread;
+    private final Queue<Connection> connectionsReadyToWrite = new ConcurrentLinkedQueue<>();
+    private final List<Request> batch = new ArrayList<>();
+    private final ByteBuffer[] buffersToWrite = new ByteBuffer[MAX_BUFFERS_PER_WRITE];
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new server bound to the given address, which gives up solving any Math expression
+     * that takes longer than 10 seconds. The server doesn't accept any connection until
+     * {@link #start()} is called.
+     *
+     * @param address       the address to bind the server to; use port 0 to pick any free port
+     * @param workerThreads the amount of threads used to solve Math expressions
+     * @throws IOException              when the server can't be bound to the given address
+     * @throws IllegalArgumentException when the amount of worker threads is lower than 1
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public JCalcServer(InetSocketAddress address, int workerThreads) throws IOException
+    {
+        this(address, workerThreads, DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Creates a new server bound to the given address. The server doesn't accept any connection
+     * until {@link #start()} is called.
+     *
+     * @param address         the address to bind the server to; use port 0 to pick any free port
+     * @param workerThreads   the amount of threads used to solve Math expressions
+     * @param timeLimitMillis the maximum amount of milliseconds that solving a single Math
+     *                        expression can take before its evaluation is cancelled
+     * @throws IOException              when the server can't be bound to the given address
+     * @throws IllegalArgumentException when the amount of worker threads or the time limit are
+     *                                  lower than 1
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public JCalcServer(InetSocketAddress address, int workerThreads, long timeLimitMillis) throws IOException
+    {
+        if (workerThreads < 1)
+            throw new IllegalArgumentException("The server needs at least one worker thread");
+        if (timeLimitMillis < 1)
+            throw new IllegalArgumentException("The time limit to solve a Math expression must be at least one millisecond");
+        this.workerThreads = workerThreads;
+        this.timeLimitMillis = timeLimitMillis;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try
+        {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        }
+        catch (IOException exception)
+        {
+            serverChannel.close();
+            selector.close();
+            throw exception;
+        }
+        AtomicInteger workerCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread worker = new Thread(runnable, "jcalc-worker-" + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+        watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "jcalc-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.setRemoveOnCancelPolicy(true);
+        selectorThread = new Thread(this::runSelectorLoop, "jcalc-selector");
+    }
+
+    /**
+     * Starts accepting connections and solving the Math expressions they send.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public void start()
+    {
+        selectorThread.start();
+    }
+
+    /**
+     * Method to get the address the server is bound to, which is useful to know the port picked
+     * when binding the server to port 0.
+     *
+     * @return The address the server is bound to
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public InetSocketAddress getAddress()
+    {
+        return (InetSocketAddress) serverChannel.socket().getLocalSocketAddress();
+    }
+
+    /**
+     * Stops the server, closing every connection and discarding the Math expressions not solved
+     * yet.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    @Override
+    public void close() throws IOException
+    {
+        closed = true;
+        if (selectorThread.isAlive())
+        {
+            selector.wakeup();
+            try
+            {
+                selectorThread.join();
+            }
+            catch (InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        else
+            closeChannels();
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private void runSelectorLoop()
+    {
+        try
+        {
+            while (!closed)
+            {
+                selector.select();
+                for (Connection connection; (connection = connectionsReadyToWrite.poll()) != null; )
+                {
+                    connection.writeScheduled.set(false);
+                    write(connection);
+                }
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext())
+                {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (!key.isValid())
+                        continue;
+                    if (key.isAcceptable())
+                        accept();
+                    else
+                    {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isWritable())
+                            write(connection);
+                        if (key.isValid() && key.isReadable())
+                            read(connection);
+                    }
+                }
+                submitBatch();
+            }
+        }
+        catch (IOException exception)
+        {
+            closed = true;
+        }
+        finally
+        {
+            closeChannels();
+        }
+    }
+
+    /**
+     * Accepts a pending connection, if any. Failing to accept a connection doesn't stop the
+     * server, so it just closes the channel that failed.
+     */
+    private void accept()
+    {
+        SocketChannel channel = null;
+        try
+        {
+            channel = serverChannel.accept();
+            if (channel == null)
+                return;
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        }
+        catch (IOException exception)
+        {
+            if (channel != null)
+            {
+                try
+                {
+                    channel.close();
+                }
+                catch (IOException ignored)
+                {
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads every complete frame available in the given connection. The Math expressions are added
+     * to the batch that will be submitted to the worker threads, while the other requests are
+     * answered right away.
+     */
+    private void read(Connection connection)
+    {
+        try
+        {
+            if (connection.channel.read(connection.readBuffer) < 0)
+            {
+                closeConnection(connection);
+                return;
+            }
+        }
+        catch (IOException exception)
+        {
+            closeConnection(connection);
+            return;
+        }
+        ByteBuffer buffer = connection.readBuffer;
+        buffer.flip();
+        while (buffer.remaining() >= Protocol.LENGTH_PREFIX_SIZE)
+        {
+            int frameLength = buffer.getInt(buffer.position());
+            if (frameLength < Protocol.REQUEST_HEADER_SIZE || frameLength > Protocol.MAX_FRAME_LENGTH)
+            {
+                closeConnection(connection);
+                return;
+            }
+            if (buffer.remaining() < Protocol.LENGTH_PREFIX_SIZE + frameLength)
+                break;
+            buffer.position(buffer.position() + Protocol.LENGTH_PREFIX_SIZE);
+            int requestId = buffer.getInt(), payloadLength = frameLength - Protocol.REQUEST_HEADER_SIZE;
+            byte type = buffer.get();
+            connection.pendingRequests++;
+            if (type == Protocol.SOLVE)
+            {
+                String mathExpression = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), payloadLength, StandardCharsets.UTF_8);
+                batch.add(new Request(connection, requestId, mathExpression));
+            }
+            else if (type == Protocol.CONFIGURE && payloadLength == Integer.BYTES + Byte.BYTES)
+            {
+                connection.configurationBuilder = Protocol.decodeConfiguration(buffer.getInt(buffer.position()), buffer.get(buffer.position() + Integer.BYTES));
+                connection.responses.add(Protocol.encodeResponse(requestId, Protocol.STATUS_RESULT, null));
+            }
+            else
+                connection.responses.add(Protocol.encodeResponse(requestId, Protocol.STATUS_ERROR, "Invalid request of type " + type));
+            buffer.position(buffer.position() + payloadLength);
+        }
+        buffer.compact();
+        if (buffer.position() >= Protocol.LENGTH_PREFIX_SIZE)
+            connection.ensureReadCapacity(Protocol.LENGTH_PREFIX_SIZE + buffer.getInt(0));
+        if (connection.pendingRequests >= MAX_PENDING_REQUESTS)
+            connection.key.interestOps(connection.key.interestOps() & ~SelectionKey.OP_READ);
+        write(connection);
+    }
+
+    /**
+     * Writes as many pending responses of the given connection as possible without blocking,
+     * waiting for the connection to become writable again when some of them are left.
+     */
+    private void write(Connection connection)
+    {
+        if (!connection.key.isValid())
+        {
+            connection.responses.clear();
+            return;
+        }
+        try
+        {
+            while (!connection.responses.isEmpty())
+            {
+                int bufferCount = 0;
+                for (ByteBuffer response : connection.responses)
+                {
+                    buffersToWrite[bufferCount++] = response;
+                    if (bufferCount == MAX_BUFFERS_PER_WRITE)
+                        break;
+                }
+                long writtenBytes = connection.channel.write(buffersToWrite, 0, bufferCount);
+                for (ByteBuffer response; (response = connection.responses.peek()) != null && !response.hasRemaining(); )
+                {
+                    connection.responses.poll();
+                    connection.pendingRequests--;
+                }
+                if (writtenBytes == 0)
+                    break;
+            }
+        }
+        catch (IOException exception)
+        {
+            closeConnection(connection);
+            return;
+        }
+        finally
+        {
+            Arrays.fill(buffersToWrite, null);
+        }
+        int interestOps = connection.responses.isEmpty() ? connection.key.interestOps() & ~SelectionKey.OP_WRITE
+                : connection.key.interestOps() | SelectionKey.OP_WRITE;
+        if (connection.pendingRequests < MAX_PENDING_REQUESTS)
+            interestOps |= SelectionKey.OP_READ;
+        connection.key.interestOps(interestOps);
+    }
+
+    /**
+     * Splits the Math expressions read since the last call into as many batches as worker threads
+     * and submits them, so the cost of handing them over to the worker threads is shared by many
+     * Math expressions.
+     */
+    private void submitBatch()
+    {
+        if (batch.isEmpty())
+            return;
+        int batchCount = Math.min(workerThreads, batch.size()), batchSize = (batch.size() + batchCount - 1) / batchCount;
+        for (int start = 0; start < batch.size(); start += batchSize)
+        {
+            List<Request> requests = new ArrayList<>(batch.subList(start, Math.min(start + batchSize, batch.size())));
+            workers.execute(() -> solve(requests));
+        }
+        batch.clear();
+    }
+
+    /**
+     * Solves the given Math expressions one after another, always sending a response back for every
+     * one of them, even when its evaluation fails with an {@link Error} or exceeds the time limit.
+     * Otherwise, the connection that sent it would keep waiting for that response and would stop
+     * being read once it reaches the limit of pending requests.
+     */
+    private void solve(List<Request> requests)
+    {
+        TimeLimit timeLimit = new TimeLimit(Thread.currentThread());
+        for (Request request : requests)
+        {
+            long requestNumber = timeLimit.start();
+            ScheduledFuture<?> expiration = watchdog.schedule(() -> timeLimit.expire(requestNumber), timeLimitMillis, TimeUnit.MILLISECONDS);
+            ByteBuffer response;
+            try
+            {
+                // The Math expression is solved right away in this thread, but as an asynchronous
+                // evaluation, so it stops when the watchdog interrupts this thread
+                String result = JCalc.solveAsync(request.mathExpression, request.configurationBuilder, Runnable::run).get();
+                response = Protocol.encodeResponse(request.requestId, result == null ? Protocol.STATUS_EMPTY : Protocol.STATUS_RESULT, result);
+            }
+            catch (CancellationException exception)
+            {
+                response = Protocol.encodeResponse(request.requestId, Protocol.STATUS_ERROR, "TimeoutException: The Math expression wasn't solved within " + timeLimitMillis + " ms");
+            }
+            catch (Throwable throwable)
+            {
+                Throwable failure = throwable instanceof ExecutionException ? throwable.getCause() : throwable;
+                response = Protocol.encodeResponse(request.requestId, Protocol.STATUS_ERROR, failure.getClass().getSimpleName() + ": " + failure.getMessage());
+            }
+            expiration.cancel(false);
+            timeLimit.finish();
+            Connection connection = request.connection;
+            connection.responses.add(response);
+            if (connection.writeScheduled.compareAndSet(false, true))
+            {
+                connectionsReadyToWrite.add(connection);
+                selector.wakeup();
+            }
+        }
+    }
+
+    private void closeConnection(Connection connection)
+    {
+        connection.key.cancel();
+        connection.responses.clear();
+        try
+        {
+            connection.channel.close();
+        }
+        catch (IOException ignored)
+        {
+        }
+    }
+
+    private void closeChannels()
+    {
+        for (SelectionKey key : selector.keys())
+        {
+            try
+            {
+                key.channel().close();
+            }
+            catch (IOException ignored)
+            {
+            }
+        }
+        try
+        {
+            serverChannel.close();
+            selector.close();
+        }
+        catch (IOException ignored)
+        {
+        }
+    }
+
+    /**
+     * Starts a server bound to the loopback address. It accepts up to four optional arguments:
+     * the port (7575 by default), the amount of worker threads (the amount of available processors
+     * by default), the address to bind the server to and the time limit to solve every Math
+     * expression, in milliseconds (10000 by default).
+     *
+     * @param args the optional port, amount of worker threads, address and time limit
+     * @throws IOException when the server can't be started
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void main(String[] args) throws IOException
+    {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workerThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        InetAddress address = args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+        long timeLimitMillis = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_TIME_LIMIT_MILLIS;
+        JCalc.warmUp();
+        JCalcServer server = new JCalcServer(new InetSocketAddress(address, port), workerThreads, timeLimitMillis);
+        server.start();
+        System.out.println("JCalc server listening on " + server.getAddress() + " with " + workerThreads + " worker threads");
+    }
+
+    /**
+     * Keeps track of the Math expression being solved by a worker thread, so the watchdog only
+     * interrupts that thread while it's still solving the Math expression whose time limit was
+     * exceeded, and never while it's solving the next ones.
+     */
+    private static final class TimeLimit
+    {
+        private final Thread worker;
+        private long requestNumber = 0;
+        private boolean solving = false, exceeded = false;
+
+        private TimeLimit(Thread worker)
+        {
+            this.worker = worker;
+        }
+
+        private synchronized long start()
+        {
+            solving = true;
+            exceeded = false;
+            return ++requestNumber;
+        }
+
+        private synchronized void expire(long requestNumber)
+        {
+            if (solving && this.requestNumber == requestNumber)
+            {
+                exceeded = true;
+                worker.interrupt();
+            }
+        }
+
+        /**
+         * Marks the current Math expression as solved, clearing the interrupted status of the
+         * worker thread when it was interrupted because of the time limit.
+         */
+        private synchronized void finish()
+        {
+            solving = false;
+            if (exceeded)
+                Thread.interrupted();
+        }
+    }
+
+    /**
+     * A Math expression waiting to be solved, along with the connection that sent it and the
+     * settings of that connection when it was sent.
+     */
+    private static final class Request
+    {
+        private final Connection connection;
+        private final int requestId;
+        private final String mathExpression;
+        private final ConfigurationBuilder configurationBuilder;
+
+        private Request(Connection connection, int requestId, String mathExpression)
+        {
+            this.connection = connection;
+            this.requestId = requestId;
+            this.mathExpression = mathExpression;
+            this.configurationBuilder = connection.configurationBuilder;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package cu.lt.joe.jcalc.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class sends Math expressions to a running {@link JCalcServer} through several connections,
+ * keeping a fixed amount of requests in flight on every connection, and reports the throughput and
+ * the latency percentiles observed. It accepts up to six optional arguments: the host (the
+ * loopback address by default), the port (7575 by default), the amount of connections (4 by
+ * default), the amount of requests sent through every connection (100000 by default), the amount
+ * of requests in flight on every connection (64 by default) and the Math expression to send.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class LoadGenerator
+{
+    private LoadGenerator()
+    {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException
+    {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7575;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int requestsPerConnection = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+        int pipelineDepth = args.length > 4 ? Integer.parseInt(args[4]) : 64;
+        String mathExpression = args.length > 5 ? args[5] : "((25*3-9)/(4+2)+5^3)-(48/8)*(7+2)+14 + sin(30) * 3!";
+        InetSocketAddress address = new InetSocketAddress(host, port);
+
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        List<Future<long[]>> results = new ArrayList<>();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < connections; i++)
+            results.add(executor.submit(() -> run(address, requestsPerConnection, pipelineDepth, mathExpression)));
+        long[] latencies = new long[connections * requestsPerConnection];
+        int errors = 0;
+        for (int i = 0; i < connections; i++)
+        {
+            long[] connectionLatencies = results.get(i).get();
+            for (int j = 0; j < requestsPerConnection; j++)
+            {
+                if (connectionLatencies[j] < 0)
+                    errors++;
+                latencies[i * requestsPerConnection + j] = Math.abs(connectionLatencies[j]);
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("Requests:   %d (%d errors) through %d connections with %d requests in flight each%n",
+                latencies.length, errors, connections, pipelineDepth);
+        System.out.printf("Throughput: %.0f requests/s%n", latencies.length / (elapsedTime / 1e9));
+        System.out.printf("Latency:    p50 %d µs, p99 %d µs, p99.9 %d µs, max %d µs%n",
+                percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999), latencies[latencies.length - 1] / 1000);
+    }
+
+    /**
+     * Sends the given Math expression through a new connection, keeping the given amount of
+     * requests in flight, and returns the latency of every request in nanoseconds. The latencies of
+     * the requests that failed are returned as negative values.
+     */
+    private static long[] run(InetSocketAddress address, int requests, int pipelineDepth, String mathExpression) throws IOException
+    {
+        long[] sendTimes = new long[requests], latencies = new long[requests];
+        try (JCalcClient client = new JCalcClient(address))
+        {
+            int sentRequests = 0;
+            for (; sentRequests < Math.min(pipelineDepth, requests); sentRequests++)
+            {
+                sendTimes[sentRequests] = System.nanoTime();
+                client.sendExpression(sentRequests, mathExpression);
+            }
+            client.flush();
+            for (int receivedRequests = 0; receivedRequests < requests; receivedRequests++)
+            {
+                JCalcClient.Response response = client.receive();
+                long latency = System.nanoTime() - sendTimes[response.getRequestId()];
+                latencies[response.getRequestId()] = response.getStatus() == Protocol.STATUS_ERROR ? -latency : latency;
+                if (sentRequests < requests)
+                {
+                    sendTimes[sentRequests] = System.nanoTime();
+                    client.sendExpression(sentRequests++, mathExpression);
+                    client.flush();
+                }
+            }
+        }
+        return latencies;
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile)
+    {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package cu.lt.joe.jcalc.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+
+/**
+ * This class defines the protocol used to talk with a {@link JCalcServer}. Every message is sent as
+ * a frame made of a 4 bytes big-endian length followed by that amount of bytes. Requests start
+ * with a 4 bytes id chosen by the client and a 1 byte type:
+ * <ul>
+ *     <li>{@link #CONFIGURE}: followed by a 4 bytes precision and 1 byte with the flags used to
+ *     build the {@link ConfigurationBuilder} applied to the next Math expressions sent through the
+ *     same connection.</li>
+ *     <li>{@link #SOLVE}: followed by the Math expression to solve encoded in UTF-8.</li>
+ * </ul>
+ * Responses start with the id of the request they answer and a 1 byte status, followed by the
+ * result or the error message encoded in UTF-8. Since Math expressions are solved in parallel,
+ * responses can arrive in a different order from the one used to send the requests.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class Protocol
+{
+    public static final byte CONFIGURE = 1;
+    public static final byte SOLVE = 2;
+
+    /**
+     * Status of the responses holding a result or acknowledging a {@link #CONFIGURE} request.
+     */
+    public static final byte STATUS_RESULT = 0;
+    /**
+     * Status of the responses to empty Math expressions, which have no result.
+     */
+    public static final byte STATUS_EMPTY = 1;
+    /**
+     * Status of the responses holding the name and message of the exception thrown while solving
+     * a Math expression or while processing an invalid request.
+     */
+    public static final byte STATUS_ERROR = 2;
+
+    public static final int FLAG_BALANCE_PARENTHESES = 1;
+    public static final int FLAG_USE_RADIANS = 1 << 1;
+    public static final int FLAG_PRECISION_AWARE_EVALUATION = 1 << 2;
+    public static final int FLAG_FAST_APPROXIMATIONS = 1 << 3;
+    public static final int FLAG_PARALLEL_EVALUATION = 1 << 4;
+    public static final int FLAG_RESULT_CACHE = 1 << 5;
+
+    /**
+     * Maximum length of a frame. Connections sending longer frames are closed.
+     */
+    public static final int MAX_FRAME_LENGTH = 1 << 24;
+    static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+    static final int REQUEST_HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+
+    private Protocol()
+    {
+    }
+
+    /**
+     * Creates the frame of a {@link #CONFIGURE} request with the settings found in the given
+     * {@link ConfigurationBuilder} instance.
+     *
+     * @param requestId            the id of the request
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to send
+     * @return A {@link ByteBuffer} ready to be written with the frame of the request
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static ByteBuffer encodeConfiguration(int requestId, ConfigurationBuilder configurationBuilder)
+    {
+        int flags = (configurationBuilder.isBalanceParenthesesEnabled() ? FLAG_BALANCE_PARENTHESES : 0)
+                | (configurationBuilder.isUseRadiansEnabled() ? FLAG_USE_RADIANS : 0)
+                | (configurationBuilder.isPrecisionAwareEvaluationEnabled() ? FLAG_PRECISION_AWARE_EVALUATION : 0)
+                | (configurationBuilder.isFastApproximationsEnabled() ? FLAG_FAST_APPROXIMATIONS : 0)
+                | (configurationBuilder.isParallelEvaluationEnabled() ? FLAG_PARALLEL_EVALUATION : 0)
+                | (configurationBuilder.isResultCacheEnabled() ? FLAG_RESULT_CACHE : 0);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + REQUEST_HEADER_SIZE + Integer.BYTES + Byte.BYTES);
+        frame.putInt(frame.capacity() - LENGTH_PREFIX_SIZE).putInt(requestId).put(CONFIGURE)
+                .putInt(configurationBuilder.getPrecision()).put((byte) flags);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Creates the frame of a {@link #SOLVE} request for the given Math expression.
+     *
+     * @param requestId      the id of the request
+     * @param mathExpression a {@link String} containing the Math expression to solve
+     * @return A {@link ByteBuffer} ready to be written with the frame of the request
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static ByteBuffer encodeExpression(int requestId, String mathExpression)
+    {
+        byte[] expressionBytes = mathExpression.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + REQUEST_HEADER_SIZE + expressionBytes.length);
+        frame.putInt(frame.capacity() - LENGTH_PREFIX_SIZE).putInt(requestId).put(SOLVE).put(expressionBytes);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Creates the frame of a response.
+     *
+     * @param requestId the id of the request being answered
+     * @param status    the status of the response
+     * @param text      the result or the error message, or {@code null} if there is none
+     * @return A {@link ByteBuffer} ready to be written with the frame of the response
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static ByteBuffer encodeResponse(int requestId, byte status, String text)
+    {
+        byte[] textBytes = text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + REQUEST_HEADER_SIZE + textBytes.length);
+        frame.putInt(frame.capacity() - LENGTH_PREFIX_SIZE).putInt(requestId).put(status).put(textBytes);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Creates the {@link ConfigurationBuilder} instance described by the payload of a
+     * {@link #CONFIGURE} request.
+     *
+     * @param precision the precision found in the request
+     * @param flags     the flags found in the request
+     * @return The {@link ConfigurationBuilder} instance described by the request
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static ConfigurationBuilder decodeConfiguration(int precision, int flags)
+    {
+        return new ConfigurationBuilder()
+                .setPrecision(precision)
+                .setBalanceParentheses((flags & FLAG_BALANCE_PARENTHESES) != 0)
+                .setUseRadians((flags & FLAG_USE_RADIANS) != 0)
+                .setUsePrecisionAwareEvaluation((flags & FLAG_PRECISION_AWARE_EVALUATION) != 0)
+                .setUseFastApproximations((flags & FLAG_FAST_APPROXIMATIONS) != 0)
+                .setUseParallelEvaluation((flags & FLAG_PARALLEL_EVALUATION) != 0)
+                .setUseResultCache((flags & FLAG_RESULT_CACHE) != 0);
+    }
+}
\ No newline at end of file
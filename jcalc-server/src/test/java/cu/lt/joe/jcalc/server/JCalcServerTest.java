@@ -0,0 +1,120 @@
+package cu.lt.joe.jcalc.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+public class JCalcServerTest
+{
+    private static JCalcServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException
+    {
+        server = new JCalcServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException
+    {
+        server.close();
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "../jcalc/src/test/resources/realistic_expressions.csv")
+    void solveRealisticMathExpressions(String expression, boolean useRadians, String expectedResult) throws IOException
+    {
+        try (JCalcClient client = new JCalcClient(server.getAddress()))
+        {
+            client.sendConfiguration(1, new ConfigurationBuilder().setUseRadians(useRadians));
+            client.sendExpression(2, expression);
+            client.flush();
+            Map<Integer, JCalcClient.Response> responses = receive(client, 2);
+            assertEquals(Protocol.STATUS_RESULT, responses.get(1).getStatus());
+            assertEquals(Protocol.STATUS_RESULT, responses.get(2).getStatus());
+            assertEquals(expectedResult, responses.get(2).getText());
+        }
+    }
+
+    @Test
+    void testPipelinedRequests() throws IOException
+    {
+        int requests = 5000;
+        try (JCalcClient client = new JCalcClient(server.getAddress()))
+        {
+            for (int i = 0; i < requests; i++)
+                client.sendExpression(i, i + " + " + i);
+            client.sendExpression(requests, "2 ** 3");
+            client.sendExpression(requests + 1, "   ");
+            client.flush();
+            Map<Integer, JCalcClient.Response> responses = receive(client, requests + 2);
+            for (int i = 0; i < requests; i++)
+                assertEquals(String.valueOf(2 * i), responses.get(i).getText());
+            assertEquals(Protocol.STATUS_ERROR, responses.get(requests).getStatus());
+            assertTrue(responses.get(requests).getText().startsWith("SyntaxErrorException"));
+            assertEquals(Protocol.STATUS_EMPTY, responses.get(requests + 1).getStatus());
+            assertNull(responses.get(requests + 1).getText());
+        }
+    }
+
+    @Test
+    void testConfigurationPerConnection() throws IOException
+    {
+        try (JCalcClient degreesClient = new JCalcClient(server.getAddress());
+             JCalcClient precisionClient = new JCalcClient(server.getAddress()))
+        {
+            degreesClient.sendConfiguration(0, new ConfigurationBuilder().setUseRadians(false).setBalanceParentheses(true).setUseResultCache(true));
+            degreesClient.sendExpression(1, "sin(30) + (2 * (3");
+            degreesClient.flush();
+            precisionClient.sendConfiguration(0, new ConfigurationBuilder().setPrecision(3));
+            precisionClient.sendExpression(1, "1 / 3");
+            precisionClient.flush();
+            assertEquals("6.5", receive(degreesClient, 2).get(1).getText());
+            assertEquals("0.333", receive(precisionClient, 2).get(1).getText());
+        }
+    }
+
+    @Test
+    void testTimeLimit() throws IOException
+    {
+        try (JCalcServer limitedServer = new JCalcServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, 200))
+        {
+            limitedServer.start();
+            try (JCalcClient client = new JCalcClient(limitedServer.getAddress()))
+            {
+                client.sendExpression(1, "(10^7)!");
+                client.sendExpression(2, "1 + 1");
+                client.flush();
+                Map<Integer, JCalcClient.Response> responses = receive(client, 2);
+                assertEquals(Protocol.STATUS_ERROR, responses.get(1).getStatus());
+                assertTrue(responses.get(1).getText().startsWith("TimeoutException"));
+                assertEquals("2", responses.get(2).getText());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new JCalcServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, 0));
+    }
+
+    private static Map<Integer, JCalcClient.Response> receive(JCalcClient client, int responseCount) throws IOException
+    {
+        Map<Integer, JCalcClient.Response> responses = new HashMap<>();
+        for (int i = 0; i < responseCount; i++)
+        {
+            JCalcClient.Response response = client.receive();
+            responses.put(response.getRequestId(), response);
+        }
+        return responses;
+    }
+}
\ No newline at end of file
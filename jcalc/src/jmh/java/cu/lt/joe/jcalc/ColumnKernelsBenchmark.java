@@ -0,0 +1,102 @@
+package cu.lt.joe.jcalc;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the plain loops against the SIMD loops used to apply every supported operator to
+ * columns of operands of different lengths. Run it with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnKernelsBenchmark
+{
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    private int columnLength;
+
+    @Param({"+", "-", "*", "/", "^", "sqrt"})
+    private String operator;
+
+    private double[] firstOperands, secondOperands, results;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(28);
+        firstOperands = new double[columnLength];
+        secondOperands = new double[columnLength];
+        results = new double[columnLength];
+        for (int i = 0; i < columnLength; i++)
+        {
+            firstOperands[i] = random.nextDouble() * 100;
+            secondOperands[i] = random.nextDouble() * 4 + 0.5;
+        }
+    }
+
+    @Benchmark
+    public double[] scalar()
+    {
+        switch (operator)
+        {
+            case "+":
+                ScalarColumnKernels.add(firstOperands, secondOperands, results, 0);
+                break;
+            case "-":
+                ScalarColumnKernels.subtract(firstOperands, secondOperands, results, 0);
+                break;
+            case "*":
+                ScalarColumnKernels.multiply(firstOperands, secondOperands, results, 0);
+                break;
+            case "/":
+                ScalarColumnKernels.divide(firstOperands, secondOperands, results, 0);
+                break;
+            case "^":
+                ScalarColumnKernels.pow(firstOperands, secondOperands, results, 0);
+                break;
+            default:
+                ScalarColumnKernels.sqrt(firstOperands, results, 0);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public double[] vector()
+    {
+        switch (operator)
+        {
+            case "+":
+                VectorColumnKernels.add(firstOperands, secondOperands, results);
+                break;
+            case "-":
+                VectorColumnKernels.subtract(firstOperands, secondOperands, results);
+                break;
+            case "*":
+                VectorColumnKernels.multiply(firstOperands, secondOperands, results);
+                break;
+            case "/":
+                VectorColumnKernels.divide(firstOperands, secondOperands, results);
+                break;
+            case "^":
+                VectorColumnKernels.pow(firstOperands, secondOperands, results);
+                break;
+            default:
+                VectorColumnKernels.sqrt(firstOperands, results);
+        }
+        return results;
+    }
+}
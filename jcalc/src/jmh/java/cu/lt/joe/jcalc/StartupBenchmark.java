@@ -0,0 +1,61 @@
+package cu.lt.joe.jcalc;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time required to get the first result in a fresh JVM, with and without calling
+ * {@link JCalc#warmUp()} before, and the time taken by that method. Every measurement is taken in a
+ * new fork, so nothing is loaded or compiled before it starts. Run it with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark
+{
+    @Benchmark
+    public String firstArithmeticResult()
+    {
+        return JCalc.solveMathExpression("2 * 3 + 5 * 2^3");
+    }
+
+    @Benchmark
+    public String firstTrigonometricResult()
+    {
+        return JCalc.solveMathExpression("sin(π/6) + ln(e^2)");
+    }
+
+    @Benchmark
+    public void warmUp()
+    {
+        JCalc.warmUp();
+    }
+
+    @Benchmark
+    public String firstArithmeticResultAfterWarmUp(WarmedUpState warmedUpState)
+    {
+        return JCalc.solveMathExpression("2 * 3 + 5 * 2^3");
+    }
+
+    @State(Scope.Benchmark)
+    public static class WarmedUpState
+    {
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            JCalc.warmUp();
+        }
+    }
+}
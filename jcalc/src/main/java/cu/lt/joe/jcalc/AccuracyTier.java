@@ -0,0 +1,26 @@
+package cu.lt.joe.jcalc;
+
+/**
+ * This enum contains the accuracy tiers that can be used to calculate the trigonometric and
+ * logarithmic functions of a Math expression, set by using
+ * {@link ConfigurationBuilder#setAccuracyTier(AccuracyTier)}. The tiers are declared from the most
+ * accurate to the fastest one.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public enum AccuracyTier
+{
+    /**
+     * Trigonometric and logarithmic functions are calculated with full {@code double} accuracy.
+     */
+    EXACT,
+    /**
+     * The sine, cosine, tangent (and their reciprocal functions), natural logarithm, decimal
+     * logarithm and binary logarithm are calculated using lookup tables, with an error of at most
+     * 10<sup>-9</sup> times the biggest value between 1 and the magnitude of the exact result,
+     * except for tangents too close to one of their poles. When degrees are used, the multiples of
+     * 30 and 45 degrees with a rational result give exact values.
+     */
+    FAST
+}
\ No newline at end of file
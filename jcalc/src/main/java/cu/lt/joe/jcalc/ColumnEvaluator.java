@@ -0,0 +1,87 @@
+package cu.lt.joe.jcalc;
+
+/**
+ * This class is intended to apply the arithmetic operators, the power operator and the square root
+ * to whole columns of {@code double} values at once, which is a lot faster than solving a Math
+ * expression for every row of a table. For general purposes, you just have to use the methods
+ * {@link #applyOperation(double[], String, double[])} and {@link #applySquareRoot(double[])}. When
+ * running on Java 17 or newer with the {@code jdk.incubator.vector} module added to the runtime
+ * (using {@code --add-modules jdk.incubator.vector}), the operations are performed using SIMD
+ * instructions; otherwise, plain loops are used. Unlike the methods of the {@link JCalc} class,
+ * these methods follow the rules of the {@code double} arithmetic, so they never throw an exception
+ * when a not numeric or an infinite value is obtained for any row.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @see #applyOperation(double[], String, double[])
+ * @see #applySquareRoot(double[])
+ * @since 3.1.0
+ */
+public class ColumnEvaluator
+{
+    /**
+     * Takes two columns of operands and an operator to perform the required operation with every
+     * pair of operands found at the same position of both columns. The supported operators are
+     * {@code +}, {@code -}, {@code *}, {@code ×}, {@code /}, {@code ÷} and {@code ^}.
+     *
+     * @param firstOperands  a {@code double} array with the first operand of every operation
+     * @param operator       a {@link String} with the operator to define the operation that will
+     *                       be performed
+     * @param secondOperands a {@code double} array with the second operand of every operation
+     * @return A new {@code double} array with the result of every operation
+     * @throws IllegalArgumentException when any column is {@code null}, when the columns have
+     *                                  different lengths or when the operator is not supported
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static double[] applyOperation(double[] firstOperands, String operator, double[] secondOperands)
+    {
+        if (firstOperands == null || secondOperands == null)
+            throw new IllegalArgumentException("The columns of operands can't be null");
+        if (firstOperands.length != secondOperands.length)
+            throw new IllegalArgumentException("The columns of operands must have the same length, but they have "
+                    + firstOperands.length + " and " + secondOperands.length + " elements");
+        double[] results = new double[firstOperands.length];
+        switch (operator == null ? "" : operator)
+        {
+            case "+":
+                ColumnKernels.add(firstOperands, secondOperands, results);
+                break;
+            case "-":
+                ColumnKernels.subtract(firstOperands, secondOperands, results);
+                break;
+            case "*":
+            case "×":
+                ColumnKernels.multiply(firstOperands, secondOperands, results);
+                break;
+            case "/":
+            case "÷":
+                ColumnKernels.divide(firstOperands, secondOperands, results);
+                break;
+            case "^":
+                ColumnKernels.pow(firstOperands, secondOperands, results);
+                break;
+            default:
+                throw new IllegalArgumentException("Operator \"" + operator + "\" can't be applied to columns of operands");
+        }
+        return results;
+    }
+
+    /**
+     * Takes a column of operands and calculates the square root of every one of them. Negative
+     * operands lead to a not numeric (NaN) result.
+     *
+     * @param operands a {@code double} array with the operands
+     * @return A new {@code double} array with the square root of every operand
+     * @throws IllegalArgumentException when the column is {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static double[] applySquareRoot(double[] operands)
+    {
+        if (operands == null)
+            throw new IllegalArgumentException("The column of operands can't be null");
+        double[] results = new double[operands.length];
+        ColumnKernels.sqrt(operands, results);
+        return results;
+    }
+}
@@ -0,0 +1,100 @@
+package cu.lt.joe.jcalc;
+
+/**
+ * This class selects how the operations over columns of operands are performed. This version,
+ * used on Java 8 to 16, always relies on the plain loops found in {@link ScalarColumnKernels}. The
+ * multi-release JAR of this library contains an alternative version of this class for Java 17 and
+ * newer that uses SIMD instructions when the {@code jdk.incubator.vector} module is available.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class ColumnKernels
+{
+    private ColumnKernels()
+    {
+    }
+
+    /**
+     * Adds every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the sums are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void add(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.add(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Subtracts every second operand from the first operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the differences are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void subtract(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.subtract(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Multiplies every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the products are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void multiply(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.multiply(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Divides every first operand by the second operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the quotients are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void divide(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.divide(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Raises every first operand to the power of the second operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the powers are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void pow(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.pow(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Calculates the square root of every operand.
+     *
+     * @param operands the column with the operands
+     * @param results  the column where the square roots are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void sqrt(double[] operands, double[] results)
+    {
+        ScalarColumnKernels.sqrt(operands, results, 0);
+    }
+}
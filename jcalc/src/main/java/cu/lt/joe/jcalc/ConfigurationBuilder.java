@@ -3,12 +3,20 @@ package cu.lt.joe.jcalc;
 /**
  * Configuration class created with the purpose of setting, all at once, the parameters required to
  * customize the process of solving a Math expression. By using the default constructor the
- * precision is set to 12, parentheses are not automatically balanced and radians are used when
- * processing trigonometric functions; but you are free to customize those parameters by calling the
- * following setter methods: {@link #setPrecision(int)}, {@link #setBalanceParentheses(boolean)}
- * and {@link #setUseRadians(boolean)}. To query the values set for those parameters, use the
- * following getter methods: {@link #getPrecision()}, {@link #isBalanceParenthesesEnabled()} and
- * {@link #isUseRadiansEnabled()}.
+ * precision is set to 12, parentheses are not automatically balanced, radians are used when
+ * processing trigonometric functions, every intermediate result is calculated exactly,
+ * trigonometric and logarithmic functions are calculated using the {@link AccuracyTier#EXACT}
+ * tier, every Math expression is solved in the calling thread and no result is cached; but you
+ * are free to customize those parameters by calling the following setter methods:
+ * {@link #setPrecision(int)}, {@link #setBalanceParentheses(boolean)},
+ * {@link #setUseRadians(boolean)}, {@link #setUsePrecisionAwareEvaluation(boolean)},
+ * {@link #setAccuracyTier(AccuracyTier)} (or its shortcut
+ * {@link #setUseFastApproximations(boolean)}), {@link #setUseParallelEvaluation(boolean)} and
+ * {@link #setUseResultCache(boolean)}. To query the values set for those parameters, use the
+ * following getter methods: {@link #getPrecision()}, {@link #isBalanceParenthesesEnabled()},
+ * {@link #isUseRadiansEnabled()}, {@link #isPrecisionAwareEvaluationEnabled()},
+ * {@link #getAccuracyTier()} (or {@link #isFastApproximationsEnabled()}),
+ * {@link #isParallelEvaluationEnabled()} and {@link #isResultCacheEnabled()}.
  *
  * @author <a href="https://github.com/jr20xx">jr20xx</a>
  * @since 3.0.0
@@ -16,7 +24,38 @@ package cu.lt.joe.jcalc;
 public class ConfigurationBuilder
 {
     private int precision = 12;
-    private boolean balanceParentheses = false, useRadians = true;
+    private boolean balanceParentheses = false, useRadians = true, precisionAwareEvaluation = false,
+            parallelEvaluation = false, resultCache = false;
+    private AccuracyTier accuracyTier = AccuracyTier.EXACT;
+
+    /**
+     * Creates a new instance with the default settings.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.0.0
+     */
+    public ConfigurationBuilder()
+    {
+    }
+
+    /**
+     * Creates a new instance with the same settings of the given one.
+     *
+     * @param configurationBuilder the {@link ConfigurationBuilder} instance to copy the settings
+     *                             from
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder(ConfigurationBuilder configurationBuilder)
+    {
+        this.precision = configurationBuilder.precision;
+        this.balanceParentheses = configurationBuilder.balanceParentheses;
+        this.useRadians = configurationBuilder.useRadians;
+        this.precisionAwareEvaluation = configurationBuilder.precisionAwareEvaluation;
+        this.accuracyTier = configurationBuilder.accuracyTier;
+        this.parallelEvaluation = configurationBuilder.parallelEvaluation;
+        this.resultCache = configurationBuilder.resultCache;
+    }
 
     /**
      * Sets the {@code boolean} to control when to use the capabilities of this library to automatically
@@ -108,4 +147,180 @@ public class ConfigurationBuilder
     {
         return useRadians;
     }
+
+    /**
+     * Sets the {@code boolean} value used to control when to carry the precision set for the final
+     * result through the whole evaluation of a Math expression. When enabled, factorials and
+     * products are calculated keeping only the digits that can still affect the formatted result
+     * (plus some guard digits) instead of every exact digit, which greatly reduces the time and
+     * memory spent on expressions like {@code (2^10)!}. When adding or subtracting two rounded
+     * values cancels most of their digits, the Math expression is solved again using exact
+     * arithmetic, so the result is the same one obtained with this setting disabled. Since Math
+     * expressions read from a {@link java.io.Reader} can't be read twice, they are always solved
+     * using exact arithmetic.
+     *
+     * @param precisionAwareEvaluation a {@code boolean} value to set if intermediate results will
+     *                                 be limited to the digits required by the set precision
+     * @return The {@link ConfigurationBuilder} instance affected by this value
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder setUsePrecisionAwareEvaluation(boolean precisionAwareEvaluation)
+    {
+        this.precisionAwareEvaluation = precisionAwareEvaluation;
+        return this;
+    }
+
+    /**
+     * Method to get the {@code boolean} value currently set to control if intermediate results
+     * will be limited to the digits required by the precision set for the final result.
+     *
+     * @return The {@code boolean} value currently set to control if intermediate results will be
+     * limited to the digits required by the precision set for the final result
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public boolean isPrecisionAwareEvaluationEnabled()
+    {
+        return precisionAwareEvaluation;
+    }
+
+    /**
+     * Sets the {@link AccuracyTier} used to calculate the trigonometric and logarithmic functions
+     * of a Math expression. With {@link AccuracyTier#FAST}, the sine, cosine, tangent (and their
+     * reciprocal functions), natural logarithm, decimal logarithm and binary logarithm are
+     * approximated using lookup tables, which increases the throughput at the cost of an error of
+     * at most 10<sup>-9</sup> times the biggest value between 1 and the magnitude of the exact
+     * result, except for tangents too close to one of their poles. When degrees are used, the
+     * multiples of 30 and 45 degrees with a rational result give exact values, so {@code tan(90)}
+     * or {@code csc(180)} lead to an infinite result.
+     *
+     * @param accuracyTier the {@link AccuracyTier} used to calculate trigonometric and logarithmic
+     *                     functions
+     * @return The {@link ConfigurationBuilder} instance affected by this value
+     * @throws IllegalArgumentException when the given {@link AccuracyTier} is {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder setAccuracyTier(AccuracyTier accuracyTier)
+    {
+        if (accuracyTier == null)
+            throw new IllegalArgumentException("The accuracy tier can't be null");
+        this.accuracyTier = accuracyTier;
+        return this;
+    }
+
+    /**
+     * Method to get the {@link AccuracyTier} currently set to calculate the trigonometric and
+     * logarithmic functions of a Math expression.
+     *
+     * @return The {@link AccuracyTier} currently set to calculate trigonometric and logarithmic
+     * functions
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public AccuracyTier getAccuracyTier()
+    {
+        return accuracyTier;
+    }
+
+    /**
+     * Shortcut to set the {@link AccuracyTier} used to calculate the trigonometric and logarithmic
+     * functions of a Math expression to {@link AccuracyTier#FAST} or {@link AccuracyTier#EXACT}.
+     *
+     * @param fastApproximations a {@code boolean} value to set if trigonometric and logarithmic
+     *                           functions will be approximated to increase the throughput
+     * @return The {@link ConfigurationBuilder} instance affected by this value
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @see #setAccuracyTier(AccuracyTier)
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder setUseFastApproximations(boolean fastApproximations)
+    {
+        return setAccuracyTier(fastApproximations ? AccuracyTier.FAST : AccuracyTier.EXACT);
+    }
+
+    /**
+     * Method to check if the {@link AccuracyTier} currently set to calculate the trigonometric and
+     * logarithmic functions is {@link AccuracyTier#FAST}.
+     *
+     * @return {@code true} or {@code false} when trigonometric and logarithmic functions will be
+     * approximated to increase the throughput or not
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public boolean isFastApproximationsEnabled()
+    {
+        return accuracyTier == AccuracyTier.FAST;
+    }
+
+    /**
+     * Sets the {@code boolean} value used to control when to solve the expensive independent parts
+     * of a Math expression in parallel. When enabled, the operations whose estimated cost is high,
+     * like the factorial of big numbers or the product of numbers with thousands of digits, are
+     * not performed while the Math expression is parsed; instead, they are kept in a tree that is
+     * solved at the end, using the {@link java.util.concurrent.ForkJoinPool#commonPool()} to solve
+     * the independent expensive parts at the same time. Math expressions without expensive
+     * operations are solved just like when this mode is disabled.
+     *
+     * @param parallelEvaluation a {@code boolean} value to set if the expensive independent parts
+     *                           of a Math expression will be solved in parallel
+     * @return The {@link ConfigurationBuilder} instance affected by this value
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder setUseParallelEvaluation(boolean parallelEvaluation)
+    {
+        this.parallelEvaluation = parallelEvaluation;
+        return this;
+    }
+
+    /**
+     * Method to get the {@code boolean} value currently set to control if the expensive independent
+     * parts of a Math expression will be solved in parallel.
+     *
+     * @return The {@code boolean} value currently set to control if the expensive independent parts
+     * of a Math expression will be solved in parallel
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public boolean isParallelEvaluationEnabled()
+    {
+        return parallelEvaluation;
+    }
+
+    /**
+     * Sets the {@code boolean} value used to control when to reuse the results of expensive
+     * operations calculated while solving previous Math expressions. When enabled, the results of
+     * factorials, roots, logarithms and trigonometric functions that took a noticeable time to be
+     * calculated are kept in a cache shared by the whole process, so solving {@code 1000!} again,
+     * even as part of a different Math expression, takes just a lookup. The memory used by that
+     * cache is limited, and the results used least recently are discarded first when that limit is
+     * reached. Use {@link JCalc#getResultCacheStatistics()} to check how effective it is.
+     *
+     * @param resultCache a {@code boolean} value to set if the results of expensive operations
+     *                    will be cached and reused
+     * @return The {@link ConfigurationBuilder} instance affected by this value
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ConfigurationBuilder setUseResultCache(boolean resultCache)
+    {
+        this.resultCache = resultCache;
+        return this;
+    }
+
+    /**
+     * Method to get the {@code boolean} value currently set to control if the results of
+     * expensive operations will be cached and reused.
+     *
+     * @return The {@code boolean} value currently set to control if the results of expensive
+     * operations will be cached and reused
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public boolean isResultCacheEnabled()
+    {
+        return resultCache;
+    }
 }
\ No newline at end of file
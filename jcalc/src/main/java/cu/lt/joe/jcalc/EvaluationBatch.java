@@ -0,0 +1,173 @@
+package cu.lt.joe.jcalc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import cu.lt.joe.jcalc.algorithms.ShuntingYardAlgImpl;
+
+/**
+ * This class solves a group of Math expressions, one after another, as a single task submitted to
+ * an {@link Executor}. Every Math expression has its own {@link CompletableFuture} and cancelling
+ * it before its evaluation starts makes it to be skipped, while cancelling it during its
+ * evaluation interrupts the thread solving it, so the evaluation stops as soon as possible and the
+ * remaining Math expressions of the group can be solved.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class EvaluationBatch implements Runnable
+{
+    private final List<String> mathExpressions;
+    private final ConfigurationBuilder configurationBuilder;
+    private final List<CompletableFuture<String>> results;
+    private Thread worker;
+    private CompletableFuture<String> currentResult;
+    private boolean interruptedByCancellation;
+
+    /**
+     * Creates a new group of Math expressions to solve using the parameters defined in the given
+     * {@link ConfigurationBuilder} instance. Those parameters are copied, so changing the given
+     * instance after creating the group doesn't affect how its Math expressions are solved.
+     *
+     * @param mathExpressions      a {@link List} with the Math expressions to solve
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    EvaluationBatch(List<String> mathExpressions, ConfigurationBuilder configurationBuilder)
+    {
+        this.mathExpressions = new ArrayList<>(mathExpressions);
+        this.configurationBuilder = new ConfigurationBuilder(configurationBuilder);
+        List<CompletableFuture<String>> results = new ArrayList<>(this.mathExpressions.size());
+        for (int i = 0; i < this.mathExpressions.size(); i++)
+        {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            result.whenComplete((value, throwable) -> {
+                if (throwable instanceof CancellationException)
+                    interruptIfRunning(result);
+            });
+            results.add(result);
+        }
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Method to get the {@link CompletableFuture} instances that will hold the results of solving
+     * every Math expression of this group, in the same order of the Math expressions.
+     *
+     * @return An unmodifiable {@link List} with the {@link CompletableFuture} instances
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    List<CompletableFuture<String>> getResults()
+    {
+        return results;
+    }
+
+    /**
+     * Solves every Math expression of this group that hasn't been cancelled yet, completing its
+     * {@link CompletableFuture} with the result or with the exception thrown while solving it.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    @Override
+    public void run()
+    {
+        for (int i = 0; i < results.size(); i++)
+        {
+            CompletableFuture<String> result = results.get(i);
+            synchronized (this)
+            {
+                if (result.isDone())
+                    continue;
+                worker = Thread.currentThread();
+                currentResult = result;
+            }
+            String value = null;
+            Throwable failure = null;
+            try
+            {
+                String mathExpression = mathExpressions.get(i);
+                value = mathExpression == null ? null : ShuntingYardAlgImpl.solveInterruptibly(mathExpression, configurationBuilder);
+            }
+            catch (Throwable throwable)
+            {
+                failure = throwable;
+            }
+            synchronized (this)
+            {
+                currentResult = null;
+                if (interruptedByCancellation)
+                {
+                    Thread.interrupted();
+                    interruptedByCancellation = false;
+                }
+            }
+            if (failure == null)
+                result.complete(value);
+            else
+                result.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Helper method to interrupt the thread solving the Math expression whose result is the given
+     * {@link CompletableFuture}, but only while that Math expression is still being solved. The
+     * interrupted status is only cleared afterwards when it was set here, so the interruptions
+     * made by others, like the ones made when shutting down an {@link java.util.concurrent.ExecutorService},
+     * are never lost.
+     *
+     * @param result the {@link CompletableFuture} that has been cancelled
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private synchronized void interruptIfRunning(CompletableFuture<String> result)
+    {
+        if (currentResult == result && !worker.isInterrupted())
+        {
+            interruptedByCancellation = true;
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Method to get the {@link Executor} used when no other {@link Executor} is specified. When the
+     * running platform supports virtual threads, every group of Math expressions is solved in a new
+     * virtual thread; otherwise, the {@link ForkJoinPool#commonPool()} is used.
+     *
+     * @return The default {@link Executor}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static Executor getDefaultExecutor()
+    {
+        return DefaultExecutorHolder.DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Holder of the default {@link Executor}, so it's only created the first time it's needed.
+     */
+    private static final class DefaultExecutorHolder
+    {
+        private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+        private static Executor createDefaultExecutor()
+        {
+            try
+            {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            }
+            catch (ReflectiveOperationException | RuntimeException exception)
+            {
+                return ForkJoinPool.commonPool();
+            }
+        }
+    }
+}
@@ -1,5 +1,16 @@
 package cu.lt.joe.jcalc;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import cu.lt.joe.jcalc.algorithms.ResultCache;
 import cu.lt.joe.jcalc.algorithms.ShuntingYardAlgImpl;
 import cu.lt.joe.jcalc.exceptions.InfiniteResultException;
 import cu.lt.joe.jcalc.exceptions.NotNumericResultException;
@@ -9,15 +20,39 @@ import cu.lt.joe.jcalc.exceptions.NotNumericResultException;
  * method {@link #solveMathExpression(String)}. If you want to also configure some of the parameters
  * used to do so, then call the alternative method {@link #solveMathExpression(String, ConfigurationBuilder)}
  * and pass an instance of the {@link ConfigurationBuilder} class, setting the parameters you wish
- * to use through that instance.
+ * to use through that instance. To solve Math expressions without blocking the calling thread, use
+ * the methods {@link #solveAsync(String, ConfigurationBuilder, Executor)} and
+ * {@link #solveBatchAsync(List, ConfigurationBuilder, Executor)} or any of their shorter variants.
+ * Very long Math expressions can also be solved while they are being read, without loading them
+ * entirely into memory, by using {@link #solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)}
+ * or {@link #solveMathExpression(ReadableByteChannel, ConfigurationBuilder, ProgressListener)}.
  *
  * @author <a href="https://github.com/jr20xx">jr20xx</a>
  * @see #solveMathExpression(String)
  * @see #solveMathExpression(String, ConfigurationBuilder)
+ * @see #solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)
+ * @see #solveAsync(String, ConfigurationBuilder, Executor)
+ * @see #solveBatchAsync(List, ConfigurationBuilder, Executor)
  * @since 3.0.1
  */
 public class JCalc
 {
+    /**
+     * Math expressions solved by {@link #warmUp()}, chosen to go through every path of the parser
+     * and every kind of operation supported by this library.
+     */
+    private static final String[] WARM_UP_EXPRESSIONS = {
+            "((25*3-9)/(4+2)+5^3)-(48/8)*(7+2)+14",
+            "-(1 500,25E-1 + 2.5e+2) × 3 ÷ (4 - -2)",
+            "2π + 3e - √(16) + √√(81) + 2(3)(4)",
+            "sin(30) + cos(60) + tan(45) + csc(30) + sec(60) + cot(45)",
+            "asin(0.5) + acos(0.5) + atan(1) + arcsin(1) + arccos(0) + arctan(0)",
+            "ln(e^2) + log(1000) + log2(8) + sqrt(2) + cbrt(27)",
+            "(25)! / 3! + 5!!",
+            "1 / 3000000000000000"
+    };
+    private static final int WARM_UP_ROUNDS = 5;
+
     /**
      * Takes a Math expression and returns its result. If the expression is empty, {@code null} will
      * be returned. If the expression contains any whitespace, they'll be ignored. If you wish to
@@ -45,7 +80,8 @@ public class JCalc
      * in the {@link ConfigurationBuilder} instance are used to customize how Math expressions are
      * treated, defining the value of the precision used for the final result obtained after solving
      * a Math expression and, besides that, determining if the parentheses in the Math expression
-     * should be automatically balanced and if the trigonometric functions will use radians or degrees
+     * should be automatically balanced, if the trigonometric functions will use radians or degrees
+     * and if the intermediate results should be limited to the digits required by that precision
      * when solving a Math expression. If you pass {@code null} as second parameter, an
      * {@link IllegalArgumentException} will be thrown.
      *
@@ -67,4 +103,259 @@ public class JCalc
         return mathExpression == null ? null :
                 ShuntingYardAlgImpl.solveMathExpression(mathExpression, configurationBuilder);
     }
+
+    /**
+     * Solves a set of representative Math expressions a few times, so the classes, lookup tables
+     * and code paths used to solve Math expressions are loaded, initialized and compiled before
+     * the first real Math expression arrives. Calling this method is never required, but it
+     * moves that one-time cost out of the first call to any of the methods of this class, which is
+     * useful in environments where the latency of that first call matters, like serverless
+     * functions that can run it while they are being initialized. It can be called many times,
+     * although calling it once is enough.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void warmUp()
+    {
+        ConfigurationBuilder[] configurationBuilders = {
+                new ConfigurationBuilder(),
+                new ConfigurationBuilder().setUseRadians(false).setUseFastApproximations(true).setUsePrecisionAwareEvaluation(true)
+        };
+        for (int round = 0; round < WARM_UP_ROUNDS; round++)
+            for (ConfigurationBuilder configurationBuilder : configurationBuilders)
+                for (String mathExpression : WARM_UP_EXPRESSIONS)
+                    ShuntingYardAlgImpl.solveMathExpression(mathExpression, configurationBuilder);
+    }
+
+    /**
+     * Method to get a snapshot of the statistics of the cache used to reuse the results of
+     * expensive operations when {@link ConfigurationBuilder#setUseResultCache(boolean)} is enabled,
+     * like its hit rate and the estimated memory used by the cached results.
+     *
+     * @return A {@link ResultCacheStatistics} with the current statistics of the result cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static ResultCacheStatistics getResultCacheStatistics()
+    {
+        return ResultCache.getStatistics();
+    }
+
+    /**
+     * Discards every result cached when {@link ConfigurationBuilder#setUseResultCache(boolean)} is
+     * enabled and resets the statistics of the result cache.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void clearResultCache()
+    {
+        ResultCache.clear();
+    }
+
+    /**
+     * Sets the maximum amount of memory, in bytes, that can be used by the results cached when
+     * {@link ConfigurationBuilder#setUseResultCache(boolean)} is enabled. The results used least
+     * recently are discarded first when that limit is reached, and a single result can't take more
+     * than an eighth of it. By default, up to 16 MiB are used.
+     *
+     * @param capacityBytes the maximum amount of bytes that can be used by the cached results
+     * @throws IllegalArgumentException when the given capacity is negative
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void setResultCacheCapacity(long capacityBytes)
+    {
+        ResultCache.setCapacity(capacityBytes);
+    }
+
+    /**
+     * Reads a Math expression from the given {@link Reader} and returns its result using the
+     * parameters defined in the provided {@link ConfigurationBuilder} instance to process it. The
+     * Math expression is solved while it's being read, performing every operation as soon as the
+     * precedence of the operators allows it, so only a small part of it is kept in memory at any
+     * time and the memory required to solve it depends on how deeply nested its parentheses are
+     * instead of on its length. This makes it suitable for Math expressions that are too long to
+     * be loaded into a {@link String}. Since the Math expression can't be read twice, it's always
+     * solved using exact arithmetic, even when the precision-aware evaluation is enabled. The given
+     * {@link Reader} is not closed by this method. If the Math expression is empty, {@code null}
+     * will be returned.
+     *
+     * @param reader               the {@link Reader} to read the Math expression from
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @param progressListener     a {@link ProgressListener} to notify every time a new chunk of
+     *                             characters is read or {@code null} if the progress is not needed
+     * @return A {@link String} containing the result of solving the given Math expression or {@code null}
+     * if the given expression is empty
+     * @throws IOException               when an I/O error occurs while reading the Math expression
+     * @throws NotNumericResultException when a not numeric (NaN) value is obtained
+     * @throws InfiniteResultException   when an Infinite result is obtained
+     * @throws IllegalArgumentException  when the {@link Reader} or the {@link ConfigurationBuilder}
+     *                                   instance are {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static String solveMathExpression(Reader reader, ConfigurationBuilder configurationBuilder, ProgressListener progressListener) throws IOException
+    {
+        if (reader == null)
+            throw new IllegalArgumentException("The Reader can't be null when using the \"solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)\" method");
+        if (configurationBuilder == null)
+            throw new IllegalArgumentException("The ConfigurationBuilder instance can't be null when using the \"solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)\" method");
+        try
+        {
+            return ShuntingYardAlgImpl.solveMathExpression(reader, configurationBuilder, progressListener);
+        }
+        catch (UncheckedIOException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Reads a Math expression encoded in UTF-8 from the given {@link ReadableByteChannel} and
+     * returns its result. It works as {@link #solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)}
+     * does, so the Math expression is solved while it's being read and the given
+     * {@link ReadableByteChannel} is not closed by this method.
+     *
+     * @param channel              the {@link ReadableByteChannel} to read the Math expression from
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @param progressListener     a {@link ProgressListener} to notify every time a new chunk of
+     *                             characters is read or {@code null} if the progress is not needed
+     * @return A {@link String} containing the result of solving the given Math expression or {@code null}
+     * if the given expression is empty
+     * @throws IOException               when an I/O error occurs while reading the Math expression
+     * @throws NotNumericResultException when a not numeric (NaN) value is obtained
+     * @throws InfiniteResultException   when an Infinite result is obtained
+     * @throws IllegalArgumentException  when the {@link ReadableByteChannel} or the
+     *                                   {@link ConfigurationBuilder} instance are {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static String solveMathExpression(ReadableByteChannel channel, ConfigurationBuilder configurationBuilder, ProgressListener progressListener) throws IOException
+    {
+        if (channel == null)
+            throw new IllegalArgumentException("The ReadableByteChannel can't be null when using the \"solveMathExpression(ReadableByteChannel, ConfigurationBuilder, ProgressListener)\" method");
+        return solveMathExpression(Channels.newReader(channel, StandardCharsets.UTF_8.name()), configurationBuilder, progressListener);
+    }
+
+    /**
+     * Takes a Math expression and solves it without blocking the calling thread, using the default
+     * settings. It works as {@link #solveAsync(String, ConfigurationBuilder, Executor)} does when
+     * passing a new {@link ConfigurationBuilder} instance and the default {@link Executor}.
+     *
+     * @param mathExpression a {@link String} containing the Math expression to solve
+     * @return A {@link CompletableFuture} that will hold the result of solving the given Math expression
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static CompletableFuture<String> solveAsync(String mathExpression)
+    {
+        return solveAsync(mathExpression, new ConfigurationBuilder());
+    }
+
+    /**
+     * Takes a Math expression and solves it without blocking the calling thread, using the
+     * parameters defined in the provided {@link ConfigurationBuilder} instance. It works as
+     * {@link #solveAsync(String, ConfigurationBuilder, Executor)} does when passing the default
+     * {@link Executor}, which uses a new virtual thread for every Math expression when the running
+     * platform supports them or the common {@link java.util.concurrent.ForkJoinPool} otherwise.
+     *
+     * @param mathExpression       a {@link String} containing the Math expression to solve
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return A {@link CompletableFuture} that will hold the result of solving the given Math expression
+     * @throws IllegalArgumentException when the {@link ConfigurationBuilder} instance is {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static CompletableFuture<String> solveAsync(String mathExpression, ConfigurationBuilder configurationBuilder)
+    {
+        return solveAsync(mathExpression, configurationBuilder, EvaluationBatch.getDefaultExecutor());
+    }
+
+    /**
+     * Takes a Math expression and solves it in the given {@link Executor} using the parameters
+     * defined in the provided {@link ConfigurationBuilder} instance. The returned
+     * {@link CompletableFuture} is completed with the same value that
+     * {@link #solveMathExpression(String, ConfigurationBuilder)} would return or, when any exception
+     * is thrown while solving the Math expression, it's completed exceptionally with that
+     * exception. Cancelling the returned {@link CompletableFuture} interrupts the evaluation of the
+     * Math expression, releasing the thread used to solve it as soon as possible. When that thread
+     * is interrupted by any other means, the evaluation stops too and the returned
+     * {@link CompletableFuture} is completed exceptionally with a
+     * {@link java.util.concurrent.CancellationException}. The settings of
+     * the given {@link ConfigurationBuilder} instance are copied when calling this method, so
+     * changing them later doesn't affect the evaluation.
+     *
+     * @param mathExpression       a {@link String} containing the Math expression to solve
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @param executor             the {@link Executor} used to solve the Math expression
+     * @return A {@link CompletableFuture} that will hold the result of solving the given Math expression
+     * @throws IllegalArgumentException when the {@link ConfigurationBuilder} instance or the
+     *                                  {@link Executor} are {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static CompletableFuture<String> solveAsync(String mathExpression, ConfigurationBuilder configurationBuilder, Executor executor)
+    {
+        return solveBatchAsync(Collections.singletonList(mathExpression), configurationBuilder, executor).get(0);
+    }
+
+    /**
+     * Takes a {@link List} of Math expressions and solves them without blocking the calling thread,
+     * using the parameters defined in the provided {@link ConfigurationBuilder} instance. It works
+     * as {@link #solveBatchAsync(List, ConfigurationBuilder, Executor)} does when passing the
+     * default {@link Executor}.
+     *
+     * @param mathExpressions      a {@link List} with the Math expressions to solve
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return A {@link List} with a {@link CompletableFuture} for every given Math expression
+     * @throws IllegalArgumentException when the {@link List} or the {@link ConfigurationBuilder}
+     *                                  instance are {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static List<CompletableFuture<String>> solveBatchAsync(List<String> mathExpressions, ConfigurationBuilder configurationBuilder)
+    {
+        return solveBatchAsync(mathExpressions, configurationBuilder, EvaluationBatch.getDefaultExecutor());
+    }
+
+    /**
+     * Takes a {@link List} of Math expressions and solves them, one after another, as a single task
+     * submitted to the given {@link Executor}. This reduces the overhead of scheduling a task for
+     * every Math expression when there are many small Math expressions to solve. Every Math
+     * expression gets its own {@link CompletableFuture}, placed at the same position of the returned
+     * {@link List}, that works as the one returned by {@link #solveAsync(String, ConfigurationBuilder, Executor)};
+     * so cancelling it skips or interrupts the evaluation of that Math expression only. The settings
+     * of the given {@link ConfigurationBuilder} instance are copied when calling this method, so
+     * changing them later doesn't affect the evaluation of any of the given Math expressions.
+     *
+     * @param mathExpressions      a {@link List} with the Math expressions to solve
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @param executor             the {@link Executor} used to solve the Math expressions
+     * @return A {@link List} with a {@link CompletableFuture} for every given Math expression
+     * @throws IllegalArgumentException when the {@link List}, the {@link ConfigurationBuilder}
+     *                                  instance or the {@link Executor} are {@code null}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static List<CompletableFuture<String>> solveBatchAsync(List<String> mathExpressions, ConfigurationBuilder configurationBuilder, Executor executor)
+    {
+        if (mathExpressions == null)
+            throw new IllegalArgumentException("The List of Math expressions can't be null when solving them asynchronously");
+        if (configurationBuilder == null)
+            throw new IllegalArgumentException("The ConfigurationBuilder instance can't be null when solving Math expressions asynchronously");
+        if (executor == null)
+            throw new IllegalArgumentException("The Executor can't be null when solving Math expressions asynchronously");
+        EvaluationBatch evaluationBatch = new EvaluationBatch(mathExpressions, configurationBuilder);
+        if (!mathExpressions.isEmpty())
+            executor.execute(evaluationBatch);
+        return evaluationBatch.getResults();
+    }
 }
\ No newline at end of file
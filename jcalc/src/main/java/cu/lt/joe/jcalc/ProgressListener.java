@@ -0,0 +1,25 @@
+package cu.lt.joe.jcalc;
+
+import java.io.Reader;
+
+/**
+ * Interface used to track the progress of solving a Math expression read from a {@link Reader} or
+ * from a {@link java.nio.channels.ReadableByteChannel}, which can be useful when the Math
+ * expression is so long that solving it takes a noticeable amount of time.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @see JCalc#solveMathExpression(Reader, ConfigurationBuilder, ProgressListener)
+ * @since 3.1.0
+ */
+public interface ProgressListener
+{
+    /**
+     * Called every time a new chunk of characters of the Math expression is read, from the same
+     * thread that's solving that Math expression.
+     *
+     * @param charactersRead the total amount of characters read so far
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    void onProgress(long charactersRead);
+}
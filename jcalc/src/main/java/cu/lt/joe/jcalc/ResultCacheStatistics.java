@@ -0,0 +1,149 @@
+package cu.lt.joe.jcalc;
+
+/**
+ * This class holds a snapshot of the statistics of the cache used to reuse the results of
+ * expensive operations when {@link ConfigurationBuilder#setUseResultCache(boolean)} is enabled.
+ * The counters are accumulated since the cache was created or last cleared with
+ * {@link JCalc#clearResultCache()}. The memory used by the cache is an estimation of the bytes
+ * held by the cached operands and results.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class ResultCacheStatistics
+{
+    private final long hitCount, missCount, rejectionCount, evictionCount, entryCount, usedBytes, capacityBytes;
+
+    /**
+     * Creates a new snapshot of the statistics of the result cache.
+     *
+     * @param hitCount       the amount of results found in the cache
+     * @param missCount      the amount of results not found in the cache
+     * @param rejectionCount the amount of results calculated after a miss that were not cached
+     * @param evictionCount  the amount of results discarded to make room for newer ones
+     * @param entryCount     the amount of results currently cached
+     * @param usedBytes      the estimated amount of bytes used by the cached results
+     * @param capacityBytes  the maximum amount of bytes that can be used by the cached results
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public ResultCacheStatistics(long hitCount, long missCount, long rejectionCount, long evictionCount, long entryCount, long usedBytes, long capacityBytes)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.rejectionCount = rejectionCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.usedBytes = usedBytes;
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Method to get the amount of results that were found in the cache.
+     *
+     * @return The amount of results that were found in the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+     * Method to get the amount of results that were not found in the cache and had to be
+     * calculated.
+     *
+     * @return The amount of results that were not found in the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+     * Method to get the fraction of the lookups that found their result in the cache.
+     *
+     * @return A value between 0 and 1 with the fraction of the lookups that found their result in
+     * the cache, or 0 when no lookup has been made
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public double getHitRate()
+    {
+        long lookupCount = hitCount + missCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Method to get the amount of results that were calculated after a miss but not cached, either
+     * because they were calculated too quickly to be worth caching or because they were too big.
+     *
+     * @return The amount of results that were not admitted into the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getRejectionCount()
+    {
+        return rejectionCount;
+    }
+
+    /**
+     * Method to get the amount of results discarded to keep the memory used by the cache under its
+     * capacity.
+     *
+     * @return The amount of results discarded from the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    /**
+     * Method to get the amount of results currently cached.
+     *
+     * @return The amount of results currently cached
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getEntryCount()
+    {
+        return entryCount;
+    }
+
+    /**
+     * Method to get the estimated amount of bytes used by the results currently cached.
+     *
+     * @return The estimated amount of bytes used by the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getUsedBytes()
+    {
+        return usedBytes;
+    }
+
+    /**
+     * Method to get the maximum amount of bytes that can be used by the cached results.
+     *
+     * @return The capacity of the cache in bytes
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public long getCapacityBytes()
+    {
+        return capacityBytes;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ResultCacheStatistics{hits=" + hitCount + ", misses=" + missCount + ", hitRate=" + getHitRate()
+                + ", rejections=" + rejectionCount + ", evictions=" + evictionCount + ", entries=" + entryCount
+                + ", usedBytes=" + usedBytes + ", capacityBytes=" + capacityBytes + "}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package cu.lt.joe.jcalc;
+
+/**
+ * This class contains the plain loops used to apply an operation to columns of operands. Every
+ * method starts at the given index, so they can also be used to process the elements left after
+ * applying the same operation with SIMD instructions.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class ScalarColumnKernels
+{
+    private ScalarColumnKernels()
+    {
+    }
+
+    /**
+     * Adds every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the sums are stored
+     * @param from           the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void add(double[] firstOperands, double[] secondOperands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = firstOperands[i] + secondOperands[i];
+    }
+
+    /**
+     * Subtracts every second operand from the first operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the differences are stored
+     * @param from           the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void subtract(double[] firstOperands, double[] secondOperands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = firstOperands[i] - secondOperands[i];
+    }
+
+    /**
+     * Multiplies every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the products are stored
+     * @param from           the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void multiply(double[] firstOperands, double[] secondOperands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = firstOperands[i] * secondOperands[i];
+    }
+
+    /**
+     * Divides every first operand by the second operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the quotients are stored
+     * @param from           the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void divide(double[] firstOperands, double[] secondOperands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = firstOperands[i] / secondOperands[i];
+    }
+
+    /**
+     * Raises every first operand to the power of the second operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the powers are stored
+     * @param from           the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void pow(double[] firstOperands, double[] secondOperands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = Math.pow(firstOperands[i], secondOperands[i]);
+    }
+
+    /**
+     * Calculates the square root of every operand.
+     *
+     * @param operands the column with the operands
+     * @param results  the column where the square roots are stored
+     * @param from     the index of the first element to process
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void sqrt(double[] operands, double[] results, int from)
+    {
+        for (int i = from; i < results.length; i++)
+            results[i] = Math.sqrt(operands[i]);
+    }
+}
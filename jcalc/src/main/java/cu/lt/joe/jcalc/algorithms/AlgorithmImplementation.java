@@ -2,11 +2,12 @@ package cu.lt.joe.jcalc.algorithms;
 
 import org.apache.commons.math3.util.FastMath;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import cu.lt.joe.jcalc.AccuracyTier;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
 import cu.lt.joe.jcalc.exceptions.InfiniteResultException;
 import cu.lt.joe.jcalc.exceptions.NotNumericResultException;
 import cu.lt.joe.jcalc.exceptions.NumericalDomainErrorException;
@@ -20,6 +21,23 @@ import cu.lt.joe.jcalc.exceptions.NumericalDomainErrorException;
  */
 public class AlgorithmImplementation
 {
+    /**
+     * Amount of extra digits kept on top of the digits that can be displayed in the final result
+     * when the precision-aware evaluation is enabled, so the rounding errors accumulated while
+     * solving a Math expression can't reach the digits that end up being displayed. Additions and
+     * subtractions of rounded operands that cancel more than half of these digits are considered
+     * to have lost precision.
+     */
+    private static final int GUARD_DIGITS = 10;
+    private static final double LOG10_2 = Math.log10(2);
+    /**
+     * Maximum amount of digits of a factorial that can be calculated. It's a bit lower than the
+     * amount of digits that a {@link java.math.BigInteger} can hold.
+     */
+    static final double MAX_FACTORIAL_DIGITS = 6e8;
+    private static final double LOG10_E = Math.log10(Math.E);
+    private static final ThreadLocal<CancellationFlag> currentCancellationFlag = new ThreadLocal<>();
+
     /**
      * Checks when a given {@link String} is a valid Math operator.
      *
@@ -78,7 +96,10 @@ public class AlgorithmImplementation
     }
 
     /**
-     * Checks when a given String is a valid number using a regular expression.
+     * Checks when a given String is a valid number, made of an optional sign, some digits with an
+     * optional decimal point and an optional exponent written using the E notation. The String is
+     * scanned by hand instead of using a regular expression, so no pattern has to be compiled the
+     * first time a Math expression is solved.
      *
      * @param number String containing a number
      * @return {@code true} or {@code false} when the character is a number or not
@@ -87,7 +108,46 @@ public class AlgorithmImplementation
      */
     protected static boolean isNumber(String number)
     {
-        return number.matches("^[+-]?(?:\\d+(?:\\.\\d*)?|\\.\\d+)(?:[eE][+-]?\\d+)?$");
+        int length = number.length(), i = 0;
+        if (i < length && (number.charAt(i) == '+' || number.charAt(i) == '-'))
+            i++;
+        int integerDigits = countDigits(number, i), fractionDigits = 0;
+        i += integerDigits;
+        if (i < length && number.charAt(i) == '.')
+        {
+            fractionDigits = countDigits(number, ++i);
+            i += fractionDigits;
+        }
+        if (integerDigits == 0 && fractionDigits == 0)
+            return false;
+        if (i < length && (number.charAt(i) == 'e' || number.charAt(i) == 'E'))
+        {
+            if (++i < length && (number.charAt(i) == '+' || number.charAt(i) == '-'))
+                i++;
+            int exponentDigits = countDigits(number, i);
+            if (exponentDigits == 0)
+                return false;
+            i += exponentDigits;
+        }
+        return i == length;
+    }
+
+    /**
+     * Helper method to count how many consecutive decimal digits are found in the given String,
+     * starting at the given position.
+     *
+     * @param text String to scan
+     * @param from position of the first character to check
+     * @return The amount of consecutive decimal digits found
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static int countDigits(String text, int from)
+    {
+        int i = from;
+        while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+            i++;
+        return i - from;
     }
 
     /**
@@ -190,23 +250,25 @@ public class AlgorithmImplementation
      * Takes two operands and an operator to perform the required operation with those operands given
      * a specific operator.
      *
-     * @param secondOperand the second operand to perform the operation
-     * @param operator      the operator to define the operation that will be performed
-     * @param firstOperand  the first operand to perform the operation
+     * @param secondOperand        the second operand to perform the operation
+     * @param operator             the operator to define the operation that will be performed
+     * @param firstOperand         the first operand to perform the operation
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
      * @return A {@link BigDecimal} with the result of performing the specified operation with the given operands
      * @author <a href="https://github.com/jr20xx">jr20xx</a>
      * @since 1.2.0
      */
-    protected static BigDecimal makeOperation(BigDecimal secondOperand, String operator, BigDecimal firstOperand)
+    protected static BigDecimal makeOperation(BigDecimal secondOperand, String operator, BigDecimal firstOperand, ConfigurationBuilder configurationBuilder)
     {
         switch (operator)
         {
             case "+":
-                return firstOperand.add(secondOperand);
+                return checkForPrecisionLoss(firstOperand, secondOperand, firstOperand.add(secondOperand), configurationBuilder);
             case "-":
-                return firstOperand.subtract(secondOperand);
+                return checkForPrecisionLoss(firstOperand, secondOperand, firstOperand.subtract(secondOperand), configurationBuilder);
             case "*":
-                return firstOperand.multiply(secondOperand);
+                return roundProduct(firstOperand.multiply(secondOperand), configurationBuilder);
             case "/":
                 return firstOperand.divide(secondOperand, MathContext.DECIMAL64);
             case "^":
@@ -219,16 +281,20 @@ public class AlgorithmImplementation
     /**
      * Takes an operand and a unary operator to perform the required operation over the given operand.
      *
-     * @param operand  the operand to perform the required operation
-     * @param operator the unary operator to define the operation that will be performed
+     * @param operand              the operand to perform the required operation
+     * @param operator             the unary operator to define the operation that will be performed
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
      * @return A {@link BigDecimal} with the result of performing the specified operation
      * @author <a href="https://github.com/jr20xx">jr20xx</a>
      * @since 1.2.4
      */
-    protected static BigDecimal makeUnaryOperation(BigDecimal operand, String operator)
+    protected static BigDecimal makeUnaryOperation(BigDecimal operand, String operator, ConfigurationBuilder configurationBuilder)
     {
         if (isFunctionalOperator(operator))
-            return BigDecimal.valueOf(useFastMathAndSolve(operand.doubleValue(), operator, 0));
+            return BigDecimal.valueOf(configurationBuilder.getAccuracyTier() == AccuracyTier.FAST ?
+                    useTableDrivenMathAndSolve(operand.doubleValue(), operator, true) :
+                    useFastMathAndSolve(operand.doubleValue(), operator, 0));
         switch (operator)
         {
             case "u-":
@@ -236,34 +302,38 @@ public class AlgorithmImplementation
             case "√":
                 if (operand.compareTo(BigDecimal.ZERO) < 0)
                     throw new NumericalDomainErrorException("Square root is not defined for negative numbers");
-                return makeOperation(new BigDecimal("0.5"), "^", operand);
+                return makeOperation(new BigDecimal("0.5"), "^", operand, configurationBuilder);
             case "!":
                 if (operand.compareTo(BigDecimal.ZERO) < 0)
                     throw new NumericalDomainErrorException("Factorial is not defined for negative numbers");
-                else if (!operand.stripTrailingZeros().remainder(BigDecimal.ONE).equals(BigDecimal.ZERO))
+                else if (operand.remainder(BigDecimal.ONE).signum() != 0)
                     throw new NumericalDomainErrorException("Factorial is not defined for non-integer numbers like " + operand.toPlainString());
-                BigDecimal result = BigDecimal.ONE;
-                for (BigDecimal i = BigDecimal.ONE; i.compareTo(operand) <= 0; i = i.add(BigDecimal.ONE))
-                    result = result.multiply(i);
-                return result;
+                else if (estimateFactorialDigits(operand.doubleValue()) > MAX_FACTORIAL_DIGITS)
+                    throw new InfiniteResultException("Factorial of " + operand + " is too large to be calculated");
+                return calculateFactorial(operand.longValueExact(), getWorkingMathContext(configurationBuilder));
             default:
                 return BigDecimal.ZERO;
         }
     }
 
     /**
-     * Takes an operand, a trigonometric function operator and a boolean value to define when to use
-     * radians or degrees to later perform the required operation over the given operand.
+     * Takes an operand, a trigonometric function operator and a {@link ConfigurationBuilder} instance
+     * to define when to use radians or degrees and whether to use fast approximations to later
+     * perform the required operation over the given operand.
      *
-     * @param operand    the operand to perform the required operation
-     * @param operator   the trigonometric operator to define the operation that will be performed
-     * @param useRadians a boolean value to define whether to use radians or degrees
+     * @param operand              the operand to perform the required operation
+     * @param operator             the trigonometric operator to define the operation that will be performed
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
      * @return A {@link BigDecimal} with the result of performing the specified operation
      * @author <a href="https://github.com/jr20xx">jr20xx</a>
      * @since 3.0.0
      */
-    protected static BigDecimal performTrigonometricCalculation(BigDecimal operand, String operator, boolean useRadians)
+    protected static BigDecimal performTrigonometricCalculation(BigDecimal operand, String operator, ConfigurationBuilder configurationBuilder)
     {
+        boolean useRadians = configurationBuilder.isUseRadiansEnabled();
+        if (configurationBuilder.getAccuracyTier() == AccuracyTier.FAST && !isInverseTrigonometricFunctionOperator(operator))
+            return BigDecimal.valueOf(useTableDrivenMathAndSolve(operand.doubleValue(), operator, useRadians));
         if (!useRadians)
             if (isInverseTrigonometricFunctionOperator(operator))
                 return BigDecimal.valueOf(FastMath.toDegrees(useFastMathAndSolve(operand.doubleValue(), operator, 0)));
@@ -278,7 +348,8 @@ public class AlgorithmImplementation
      * or smaller than 10<sup>-precision</sup>. When the number doesn't meet the conditions to get
      * converted to Scientific Notation, it removes any trailing zeros from it and reduces its scale
      * to the given precision if needed. Finally, it returns the formatted version of the given
-     * number as a plain {@link String}.
+     * number as a plain {@link String}. Every zero is formatted as {@code 0}, no matter its scale,
+     * so results like the one of {@code 1 - 1.0} are not written as {@code 0E0}.
      *
      * @param bigDecimal the {@link BigDecimal} value to format
      * @param precision  an {@code int} value to set how precise the result must be when it
@@ -290,25 +361,241 @@ public class AlgorithmImplementation
      */
     protected static String formatResult(BigDecimal bigDecimal, int precision)
     {
-        if (bigDecimal.equals(BigDecimal.ZERO))
+        if (bigDecimal.signum() == 0)
             return "0";
-        if (bigDecimal.abs().compareTo(new BigDecimal("1e" + precision)) >= 0 || bigDecimal.abs().compareTo(new BigDecimal("1e-" + precision)) <= 0)
-        {
-            StringBuilder formatPatternBuilder = new StringBuilder("0.");
-            for (int j = 0; j < precision; j++)
-                formatPatternBuilder.append("#");
-            formatPatternBuilder.append("E0");
-            return new DecimalFormat(formatPatternBuilder.toString(), new DecimalFormatSymbols(Locale.US)).format(bigDecimal);
-        }
+        BigDecimal absoluteValue = bigDecimal.abs();
+        if (absoluteValue.compareTo(BigDecimal.ONE.scaleByPowerOfTen(precision)) >= 0 || absoluteValue.compareTo(BigDecimal.ONE.scaleByPowerOfTen(-precision)) <= 0)
+            return toScientificNotation(bigDecimal, precision);
         if (bigDecimal.scale() > precision)
             bigDecimal = bigDecimal.setScale(precision, RoundingMode.HALF_UP);
         return bigDecimal.stripTrailingZeros().toPlainString();
     }
 
+    /**
+     * Helper method to write a {@link BigDecimal} using Scientific Notation, with a single integer
+     * digit and up to the given amount of decimal digits, rounding it with
+     * {@link RoundingMode#HALF_EVEN} and removing any trailing zeros. It produces the same output
+     * of a {@link java.text.DecimalFormat} with a pattern like {@code 0.####E0}, but without
+     * having to load the formatting and localization classes the first time it's used.
+     *
+     * @param bigDecimal     the {@link BigDecimal} value to write
+     * @param fractionDigits the maximum amount of decimal digits to write
+     * @return A {@link String} containing the given number written using Scientific Notation
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static String toScientificNotation(BigDecimal bigDecimal, int fractionDigits)
+    {
+        BigDecimal rounded = bigDecimal.round(new MathContext(fractionDigits + 1, RoundingMode.HALF_EVEN)).stripTrailingZeros();
+        String digits = rounded.unscaledValue().abs().toString();
+        StringBuilder builder = new StringBuilder(digits.length() + 24);
+        if (rounded.signum() < 0)
+            builder.append('-');
+        builder.append(digits.charAt(0));
+        if (digits.length() > 1)
+            builder.append('.').append(digits, 1, digits.length());
+        return builder.append('E').append((long) digits.length() - 1 - rounded.scale()).toString();
+    }
+
+    /**
+     * Checks if the Math expression being solved by the current thread has been cancelled, which
+     * happens when the thread solving an asynchronous evaluation is interrupted or when a part of
+     * the Math expression forked to another thread fails. Math expressions solved without any
+     * {@link CancellationFlag} set in the current thread, like the ones solved synchronously, are
+     * never cancelled, even when the current thread is interrupted. The interrupted status of the
+     * thread is left untouched.
+     *
+     * @throws CancellationException when the Math expression solved by the current thread has
+     *                               been cancelled
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static void checkForCancellation()
+    {
+        CancellationFlag cancellationFlag = currentCancellationFlag.get();
+        if (cancellationFlag != null && cancellationFlag.isCancelled())
+            throw new CancellationException("The evaluation of the Math expression was cancelled");
+    }
+
+    /**
+     * Method to get the {@link CancellationFlag} checked by {@link #checkForCancellation()} in the
+     * current thread.
+     *
+     * @return The {@link CancellationFlag} set in the current thread, or {@code null} if none is set
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static CancellationFlag getCancellationFlag()
+    {
+        return currentCancellationFlag.get();
+    }
+
+    /**
+     * Sets the {@link CancellationFlag} checked by {@link #checkForCancellation()} in the current
+     * thread.
+     *
+     * @param cancellationFlag the {@link CancellationFlag} to check, or {@code null} to never
+     *                         cancel the Math expressions solved by the current thread
+     * @return The {@link CancellationFlag} that was checked before, so it can be restored later
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static CancellationFlag setCancellationFlag(CancellationFlag cancellationFlag)
+    {
+        CancellationFlag previousFlag = currentCancellationFlag.get();
+        if (cancellationFlag == null)
+            currentCancellationFlag.remove();
+        else
+            currentCancellationFlag.set(cancellationFlag);
+        return previousFlag;
+    }
+
+    /**
+     * Helper method to get the {@link MathContext} used to calculate the intermediate results of a
+     * Math expression. When the precision-aware evaluation is disabled, {@link MathContext#UNLIMITED}
+     * is returned so every digit is kept; otherwise, the returned {@link MathContext} keeps only the
+     * digits that can be displayed in the final result plus some guard digits. Since results lower
+     * than 10<sup>precision</sup> are displayed with up to {@code precision} decimal digits, up to
+     * twice the precision set for the final result can be displayed.
+     *
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return The {@link MathContext} to use when calculating intermediate results
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static MathContext getWorkingMathContext(ConfigurationBuilder configurationBuilder)
+    {
+        return configurationBuilder.isPrecisionAwareEvaluationEnabled() ?
+                new MathContext(2 * configurationBuilder.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN) : MathContext.UNLIMITED;
+    }
+
+    /**
+     * Helper method to detect when the result of adding or subtracting two operands, when the
+     * precision-aware evaluation is enabled, might be wrong. It happens when at least one of the
+     * operands might have been rounded and most of its leading digits cancel out, leaving the
+     * rounding error in the digits that end up being displayed. The amount of digits of every
+     * value is estimated from the bit length of its unscaled value, so this check doesn't depend
+     * on the size of the operands.
+     *
+     * @param firstOperand         the first operand of the addition or subtraction
+     * @param secondOperand        the second operand of the addition or subtraction
+     * @param result               the result of the addition or subtraction
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
+     * @return The given result when it can be trusted
+     * @throws PrecisionLossException when the given result might be wrong
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static BigDecimal checkForPrecisionLoss(BigDecimal firstOperand, BigDecimal secondOperand, BigDecimal result, ConfigurationBuilder configurationBuilder)
+    {
+        if (!configurationBuilder.isPrecisionAwareEvaluationEnabled())
+            return result;
+        int workingPrecision = getWorkingMathContext(configurationBuilder).getPrecision();
+        long firstDigits = estimateDigits(firstOperand), secondDigits = estimateDigits(secondOperand);
+        if (firstDigits < workingPrecision && secondDigits < workingPrecision)
+            return result;
+        long operandsExponent = Math.max(firstDigits - firstOperand.scale(), secondDigits - secondOperand.scale());
+        if (result.signum() == 0 || operandsExponent - (estimateDigits(result) - result.scale()) > GUARD_DIGITS / 2)
+            throw new PrecisionLossException();
+        return result;
+    }
+
+    /**
+     * Helper method to round the exact product of two operands to the working precision when the
+     * precision-aware evaluation is enabled. Rounding the product twice, first to the working
+     * precision and later to the precision of the final result, gives a wrong final result when
+     * the first rounding leaves the product exactly halfway between two values that can be
+     * displayed, like when {@code 1.0000000000004999999} becomes {@code 1.0000000000005}. In that
+     * case, the product can't be trusted and the Math expression must be solved using exact
+     * arithmetic.
+     *
+     * @param product              the exact product of two operands
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
+     * @return The given product, rounded to the working precision when it's needed
+     * @throws PrecisionLossException when the rounded product might lead to a wrong final result
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static BigDecimal roundProduct(BigDecimal product, ConfigurationBuilder configurationBuilder)
+    {
+        MathContext workingMathContext = getWorkingMathContext(configurationBuilder);
+        if (!configurationBuilder.isPrecisionAwareEvaluationEnabled() || product.precision() <= workingMathContext.getPrecision())
+            return product;
+        BigDecimal roundedProduct = product.round(workingMathContext), significantDigits = roundedProduct.stripTrailingZeros();
+        // Up to twice the precision set for the final result can be displayed, so only a 5 placed
+        // right after those digits can be rounded again when displaying the final result
+        if (significantDigits.precision() <= 2 * configurationBuilder.getPrecision() + 1 && significantDigits.unscaledValue().abs().mod(BigInteger.TEN).intValue() == 5)
+            throw new PrecisionLossException();
+        return roundedProduct;
+    }
+
+    /**
+     * Helper method to estimate the amount of digits of the unscaled value of a {@link BigDecimal}.
+     * The estimation is never lower than the actual amount of digits and it can be higher by one.
+     */
+    private static long estimateDigits(BigDecimal value)
+    {
+        return (long) (value.unscaledValue().bitLength() * LOG10_2) + 1;
+    }
+
+    /**
+     * Helper method to estimate the amount of decimal digits of the factorial of a given
+     * non-negative integer using the Stirling's approximation.
+     *
+     * @param number the non-negative integer to estimate the amount of digits of its factorial
+     * @return The estimated amount of digits of the factorial of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static double estimateFactorialDigits(double number)
+    {
+        if (number < 2)
+            return 1;
+        return number * (Math.log10(number) - LOG10_E) + 0.5 * Math.log10(2 * Math.PI * number) + 1;
+    }
+
+    /**
+     * Helper method to calculate the factorial of a given number. Consecutive factors are
+     * multiplied as {@code long} values for as long as they fit, so only a small fraction of the
+     * multiplications are made with {@link BigDecimal} values. When the given {@link MathContext}
+     * is not {@link MathContext#UNLIMITED}, its precision is increased by the amount of digits of
+     * the given number to make up for the rounding errors accumulated along the way.
+     *
+     * @param number      the non-negative number to calculate its factorial
+     * @param mathContext the {@link MathContext} used to round the partial products
+     * @return A {@link BigDecimal} with the factorial of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static BigDecimal calculateFactorial(long number, MathContext mathContext)
+    {
+        if (mathContext.getPrecision() > 0)
+            mathContext = new MathContext(mathContext.getPrecision() + Long.toString(number).length(), mathContext.getRoundingMode());
+        BigDecimal result = BigDecimal.ONE;
+        long partialProduct = 1;
+        for (long i = 2; i <= number; i++)
+        {
+            if (partialProduct > Long.MAX_VALUE / i)
+            {
+                checkForCancellation();
+                result = result.multiply(BigDecimal.valueOf(partialProduct), mathContext);
+                partialProduct = 1;
+            }
+            partialProduct *= i;
+        }
+        return result.multiply(BigDecimal.valueOf(partialProduct), mathContext);
+    }
+
     /**
      * Helper method used to quickly throw any required exception or return the expected result when
-     * having to use the methods provided by {@link FastMath}. The second operand parameter is ignored
-     * when passing a unary operator, so it's better to set it to 0 when performing unary operations.
+     * having to use the methods provided by {@link FastMath}. Powers, square roots and cube roots are
+     * solved with {@link Math} instead, so {@link FastMath} and its tables are only loaded for
+     * Math expressions with trigonometric or logarithmic functions. The second operand parameter is
+     * ignored when passing a unary operator, so it's better to set it to 0 when performing unary
+     * operations.
      *
      * @param firstOperand  the first operand to perform the operation
      * @param operator      the operator to define the operation that will be performed
@@ -324,7 +611,7 @@ public class AlgorithmImplementation
         switch (operator)
         {
             case "^":
-                result = FastMath.pow(firstOperand, secondOperand);
+                result = Math.pow(firstOperand, secondOperand);
                 break;
             case "sin":
                 result = FastMath.sin(firstOperand);
@@ -366,18 +653,192 @@ public class AlgorithmImplementation
                 result = FastMath.log(2, firstOperand);
                 break;
             case "sqrt":
-                result = FastMath.sqrt(firstOperand);
+                result = Math.sqrt(firstOperand);
                 break;
             case "cbrt":
-                result = FastMath.cbrt(firstOperand);
+                result = Math.cbrt(firstOperand);
                 break;
         }
-        String operationData = (!isUnaryOperator(operator)) ? firstOperand + "^" + secondOperand
-                : operator + "(" + firstOperand + ")";
-        if (Double.isNaN(result))
-            throw new NotNumericResultException("Not numeric result obtained when trying to solve " + operationData);
-        else if (Double.isInfinite(result))
+        return validateResult(firstOperand, operator, secondOperand, result);
+    }
+
+    /**
+     * Helper method used to quickly throw any required exception or return the expected result when
+     * having to use the fast approximations provided by {@link TableDrivenMath}. Any operator that
+     * has no fast approximation available is solved using {@link FastMath}.
+     *
+     * @param operand    the operand to perform the operation
+     * @param operator   the unary operator to define the operation that will be performed
+     * @param useRadians a {@code boolean} to set if trigonometric functions will use radians or
+     *                   degrees when calculating a result
+     * @return A {@code double} with the result of performing the specified operation
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double useTableDrivenMathAndSolve(double operand, String operator, boolean useRadians)
+    {
+        double result;
+        switch (operator)
+        {
+            case "sin":
+                result = useRadians ? TableDrivenMath.sin(operand) : TableDrivenMath.sinDegrees(operand);
+                break;
+            case "cos":
+                result = useRadians ? TableDrivenMath.cos(operand) : TableDrivenMath.cosDegrees(operand);
+                break;
+            case "tan":
+                result = useRadians ? TableDrivenMath.tan(operand) : TableDrivenMath.tanDegrees(operand);
+                break;
+            case "csc":
+                result = 1 / (useRadians ? TableDrivenMath.sin(operand) : TableDrivenMath.sinDegrees(operand));
+                break;
+            case "sec":
+                result = 1 / (useRadians ? TableDrivenMath.cos(operand) : TableDrivenMath.cosDegrees(operand));
+                break;
+            case "cot":
+                result = 1 / (useRadians ? TableDrivenMath.tan(operand) : TableDrivenMath.tanDegrees(operand));
+                break;
+            case "ln":
+                result = TableDrivenMath.ln(operand);
+                break;
+            case "log":
+                result = TableDrivenMath.log10(operand);
+                break;
+            case "log2":
+                result = TableDrivenMath.log2(operand);
+                break;
+            default:
+                return useFastMathAndSolve(operand, operator, 0);
+        }
+        return validateResult(operand, operator, 0, result);
+    }
+
+    /**
+     * Helper method used to throw the required exception when the result of an operation is not
+     * numeric or infinite. The second operand parameter is ignored when passing a unary operator.
+     *
+     * @param firstOperand  the first operand used to perform the operation
+     * @param operator      the operator that defined the performed operation
+     * @param secondOperand the second operand used to perform the operation (ignored if the given
+     *                      operator is unary)
+     * @param result        the result obtained after performing the operation
+     * @return The given result when it's a finite number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double validateResult(double firstOperand, String operator, double secondOperand, double result)
+    {
+        if (Double.isNaN(result) || Double.isInfinite(result))
+        {
+            String operationData = (!isUnaryOperator(operator)) ? firstOperand + "^" + secondOperand
+                    : operator + "(" + firstOperand + ")";
+            if (Double.isNaN(result))
+                throw new NotNumericResultException("Not numeric result obtained when trying to solve " + operationData);
             throw new InfiniteResultException("Infinite result obtained when trying to solve " + operationData);
+        }
         return result;
     }
+
+    /**
+     * Flag shared by every thread solving a part of the same Math expression. The Math expression
+     * is cancelled when any of its parts fails, so the parts already forked to other threads stop
+     * as soon as possible too, and when the evaluation it belongs to is cancelled. The first
+     * failure is kept, so it can be thrown instead of the {@link CancellationException} thrown by
+     * the parts that were stopped because of it.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static final class CancellationFlag
+    {
+        private final Thread owner;
+        private final CancellationFlag parent;
+        private volatile boolean cancelled;
+        private RuntimeException failure;
+
+        /**
+         * Creates a new flag for a Math expression solved by the current thread, which is also
+         * cancelled when the current thread is interrupted.
+         *
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        protected CancellationFlag()
+        {
+            this.owner = Thread.currentThread();
+            this.parent = null;
+        }
+
+        /**
+         * Creates a new flag for a part of a Math expression, which is also cancelled when the
+         * given flag is cancelled.
+         *
+         * @param parent the {@link CancellationFlag} of the evaluation the new flag belongs to, or
+         *               {@code null} if it doesn't belong to any evaluation that can be cancelled
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        protected CancellationFlag(CancellationFlag parent)
+        {
+            this.owner = null;
+            this.parent = parent;
+        }
+
+        /**
+         * Cancels the Math expression because of the given failure, even if the thread that
+         * started solving it is no longer interrupted. Only the first failure is kept.
+         *
+         * @param failure the {@link RuntimeException} thrown while solving a part of the Math
+         *                expression
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        protected synchronized void cancel(RuntimeException failure)
+        {
+            if (this.failure == null)
+                this.failure = failure;
+            cancelled = true;
+        }
+
+        /**
+         * Method to get the first failure that cancelled the Math expression.
+         *
+         * @return The first {@link RuntimeException} passed to {@link #cancel(RuntimeException)},
+         * or {@code null} if the Math expression hasn't been cancelled that way
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        protected synchronized RuntimeException getFailure()
+        {
+            return failure;
+        }
+
+        /**
+         * Checks if the Math expression has been cancelled.
+         *
+         * @return {@code true} or {@code false} when the Math expression has been cancelled or not
+         * @author <a href="https://github.com/jr20xx">jr20xx</a>
+         * @since 3.1.0
+         */
+        protected boolean isCancelled()
+        {
+            return cancelled || owner != null && owner.isInterrupted() || parent != null && parent.isCancelled();
+        }
+    }
+
+    /**
+     * Exception thrown when a result calculated with the precision-aware evaluation might be
+     * wrong, so the Math expression must be solved again using exact arithmetic. It's never
+     * thrown to the callers of this library.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    protected static final class PrecisionLossException extends RuntimeException
+    {
+        private PrecisionLossException()
+        {
+            super("Precision lost while solving the Math expression", null, false, false);
+        }
+    }
 }
\ No newline at end of file
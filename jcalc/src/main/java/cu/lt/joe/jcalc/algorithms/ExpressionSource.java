@@ -0,0 +1,156 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import cu.lt.joe.jcalc.ProgressListener;
+
+/**
+ * This class represents the characters of a Math expression, accessed by their position. Besides
+ * wrapping a {@link String}, it can read the characters from a {@link Reader} as they are needed,
+ * keeping only a small window of them in memory. Because of that, once a character has been
+ * accessed, only the characters found from the one right before it onwards remain accessible.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+abstract class ExpressionSource
+{
+    /**
+     * Checks when there is a character at the given position of the Math expression.
+     *
+     * @param index the position to check
+     * @return {@code true} or {@code false} when there is a character at the given position or not
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract boolean hasCharAt(long index);
+
+    /**
+     * Method to get the character found at the given position of the Math expression.
+     *
+     * @param index the position of the character
+     * @return The character found at the given position
+     * @throws IndexOutOfBoundsException when there is no character at the given position
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract char charAt(long index);
+
+    /**
+     * Creates a new {@link ExpressionSource} backed by the given {@link String}.
+     *
+     * @param mathExpression a {@link String} containing the Math expression
+     * @return The created {@link ExpressionSource}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static ExpressionSource of(String mathExpression)
+    {
+        return new StringExpressionSource(mathExpression);
+    }
+
+    /**
+     * Creates a new {@link ExpressionSource} that reads the Math expression from the given
+     * {@link Reader}, notifying the given {@link ProgressListener} every time a new chunk of
+     * characters is read. Any {@link IOException} thrown while reading is rethrown wrapped in an
+     * {@link UncheckedIOException}.
+     *
+     * @param reader           the {@link Reader} to read the Math expression from
+     * @param progressListener the {@link ProgressListener} to notify or {@code null}
+     * @return The created {@link ExpressionSource}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static ExpressionSource of(Reader reader, ProgressListener progressListener)
+    {
+        return new ReaderExpressionSource(reader, progressListener);
+    }
+
+    private static final class StringExpressionSource extends ExpressionSource
+    {
+        private final String mathExpression;
+
+        private StringExpressionSource(String mathExpression)
+        {
+            this.mathExpression = mathExpression;
+        }
+
+        @Override
+        boolean hasCharAt(long index)
+        {
+            return index < mathExpression.length();
+        }
+
+        @Override
+        char charAt(long index)
+        {
+            return mathExpression.charAt((int) index);
+        }
+    }
+
+    private static final class ReaderExpressionSource extends ExpressionSource
+    {
+        private static final int BUFFER_SIZE = 1 << 16;
+        private final Reader reader;
+        private final ProgressListener progressListener;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private long bufferStart = 0, charactersRead = 0;
+        private int bufferLength = 0;
+        private boolean endReached = false;
+
+        private ReaderExpressionSource(Reader reader, ProgressListener progressListener)
+        {
+            this.reader = reader;
+            this.progressListener = progressListener;
+        }
+
+        @Override
+        boolean hasCharAt(long index)
+        {
+            while (index >= charactersRead && !endReached)
+                readNextChunk();
+            return index < charactersRead;
+        }
+
+        @Override
+        char charAt(long index)
+        {
+            if (!hasCharAt(index) || index < bufferStart)
+                throw new IndexOutOfBoundsException("The character at position " + index + " is not available");
+            return buffer[(int) (index - bufferStart)];
+        }
+
+        /**
+         * Reads the next chunk of characters into the buffer, keeping only the last character
+         * already read so it can still be accessed after the buffer is refilled.
+         */
+        private void readNextChunk()
+        {
+            if (bufferLength == buffer.length)
+            {
+                buffer[0] = buffer[bufferLength - 1];
+                bufferStart += bufferLength - 1;
+                bufferLength = 1;
+            }
+            int count;
+            try
+            {
+                count = reader.read(buffer, bufferLength, buffer.length - bufferLength);
+            }
+            catch (IOException exception)
+            {
+                throw new UncheckedIOException(exception);
+            }
+            if (count < 0)
+                endReached = true;
+            else
+            {
+                bufferLength += count;
+                charactersRead += count;
+                if (progressListener != null && count > 0)
+                    progressListener.onProgress(charactersRead);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+
+/**
+ * This class represents the output stack used by the Shunting Yard algorithm to hold the operands
+ * found while parsing a Math expression. Every time an operator is applied, the operands it needs
+ * are popped and the result is pushed back. How and when that result is calculated depends on the
+ * implementation: by default, every operation is performed as soon as the operator is applied, but
+ * when the parallel evaluation is enabled in the {@link ConfigurationBuilder}, the expensive
+ * operations are delayed until the final result is requested, so they can be performed in parallel.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+abstract class OperandStack
+{
+    protected final ConfigurationBuilder configurationBuilder;
+
+    OperandStack(ConfigurationBuilder configurationBuilder)
+    {
+        this.configurationBuilder = configurationBuilder;
+    }
+
+    /**
+     * Creates a new {@link OperandStack} suitable for the settings defined in the given
+     * {@link ConfigurationBuilder} instance.
+     *
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return The created {@link OperandStack}
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static OperandStack create(ConfigurationBuilder configurationBuilder)
+    {
+        return configurationBuilder.isParallelEvaluationEnabled() ?
+                new ParallelOperandStack(configurationBuilder) : new EagerOperandStack(configurationBuilder);
+    }
+
+    /**
+     * Pushes a new operand to the top of the stack.
+     *
+     * @param operand the operand to push
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract void push(BigDecimal operand);
+
+    /**
+     * Pops the operands required by the given operator and pushes back the result of applying that
+     * operator to them.
+     *
+     * @param operator a {@link String} with the operator to apply
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract void apply(String operator);
+
+    /**
+     * Pops the operand found at the top of the stack, calculating it first if needed.
+     *
+     * @return The operand found at the top of the stack
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract BigDecimal pop();
+
+    /**
+     * Checks when the stack doesn't contain any operand.
+     *
+     * @return {@code true} or {@code false} when the stack is empty or not
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    abstract boolean isEmpty();
+
+    /**
+     * Helper method to apply an operator to its operands. When the operator is a unary one, the
+     * second operand is ignored. When the result cache is enabled in the given
+     * {@link ConfigurationBuilder}, the results of the expensive unary operators are looked up in
+     * the {@link ResultCache} first.
+     *
+     * @param operator             a {@link String} with the operator to apply
+     * @param firstOperand         the first operand or the only one for unary operators
+     * @param secondOperand        the second operand of binary operators
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return The result of applying the given operator
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static BigDecimal calculate(String operator, BigDecimal firstOperand, BigDecimal secondOperand, ConfigurationBuilder configurationBuilder)
+    {
+        if (configurationBuilder.isResultCacheEnabled() && ResultCache.isCacheable(operator))
+            return ResultCache.getOrCalculate(operator, firstOperand, configurationBuilder);
+        return calculateWithoutCache(operator, firstOperand, secondOperand, configurationBuilder);
+    }
+
+    /**
+     * Helper method to apply an operator to its operands without looking up its result in the
+     * {@link ResultCache}. When the operator is a unary one, the second operand is ignored.
+     *
+     * @param operator             a {@link String} with the operator to apply
+     * @param firstOperand         the first operand or the only one for unary operators
+     * @param secondOperand        the second operand of binary operators
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return The result of applying the given operator
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static BigDecimal calculateWithoutCache(String operator, BigDecimal firstOperand, BigDecimal secondOperand, ConfigurationBuilder configurationBuilder)
+    {
+        if (AlgorithmImplementation.isTrigonometricOperator(operator))
+            return AlgorithmImplementation.performTrigonometricCalculation(firstOperand, operator, configurationBuilder);
+        else if (AlgorithmImplementation.isUnaryOperator(operator))
+            return AlgorithmImplementation.makeUnaryOperation(firstOperand, operator, configurationBuilder);
+        else
+            return AlgorithmImplementation.makeOperation(secondOperand, operator, firstOperand, configurationBuilder);
+    }
+
+    /**
+     * Implementation of the {@link OperandStack} that performs every operation as soon as its
+     * operator is applied.
+     */
+    private static final class EagerOperandStack extends OperandStack
+    {
+        private final ArrayDeque<BigDecimal> operands = new ArrayDeque<>();
+
+        private EagerOperandStack(ConfigurationBuilder configurationBuilder)
+        {
+            super(configurationBuilder);
+        }
+
+        @Override
+        void push(BigDecimal operand)
+        {
+            operands.push(operand);
+        }
+
+        @Override
+        void apply(String operator)
+        {
+            if (AlgorithmImplementation.isUnaryOperator(operator))
+                operands.push(calculate(operator, operands.pop(), null, configurationBuilder));
+            else
+            {
+                BigDecimal secondOperand = operands.pop();
+                operands.push(calculate(operator, operands.pop(), secondOperand, configurationBuilder));
+            }
+        }
+
+        @Override
+        BigDecimal pop()
+        {
+            return operands.pop();
+        }
+
+        @Override
+        boolean isEmpty()
+        {
+            return operands.isEmpty();
+        }
+    }
+}
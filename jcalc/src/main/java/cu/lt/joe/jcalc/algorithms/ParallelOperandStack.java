@@ -0,0 +1,231 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+
+/**
+ * Implementation of the {@link OperandStack} that solves the expensive independent parts of a Math
+ * expression in parallel. Every operation whose operands are already known and whose estimated
+ * cost is low is performed as soon as its operator is applied, just like the default
+ * implementation does, so the stack only holds its result. The expensive operations, and every
+ * operation that depends on them, are kept instead as the nodes of a tree that's solved when the
+ * final result is requested. While
+ * solving that tree, when both operands of an operation are pending, one of them is forked to the
+ * {@link ForkJoinPool#commonPool()} while the calling thread solves the other one.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class ParallelOperandStack extends OperandStack
+{
+    /**
+     * Minimum estimated cost, measured as the amount of products between pairs of decimal digits,
+     * for an operation to be delayed and solved in parallel with the other expensive operations.
+     * It roughly matches a tenth of a millisecond, which is much longer than the time required to
+     * fork a task.
+     */
+    private static final double PARALLEL_THRESHOLD = 1e7;
+    /**
+     * Operands of the stack, which are either {@link BigDecimal} values already calculated or
+     * {@link Node} instances with the pending operations.
+     */
+    private final ArrayDeque<Object> operands = new ArrayDeque<>();
+    private final AlgorithmImplementation.CancellationFlag cancellationFlag = new AlgorithmImplementation.CancellationFlag(AlgorithmImplementation.getCancellationFlag());
+
+    ParallelOperandStack(ConfigurationBuilder configurationBuilder)
+    {
+        super(configurationBuilder);
+    }
+
+    @Override
+    void push(BigDecimal operand)
+    {
+        operands.push(operand);
+    }
+
+    @Override
+    void apply(String operator)
+    {
+        Object secondOperand = AlgorithmImplementation.isUnaryOperator(operator) ? null : operands.pop();
+        Object firstOperand = operands.pop();
+        if (firstOperand instanceof BigDecimal && (secondOperand == null || secondOperand instanceof BigDecimal)
+                && estimateCost(operator, (BigDecimal) firstOperand, (BigDecimal) secondOperand) < PARALLEL_THRESHOLD)
+            operands.push(calculate(operator, (BigDecimal) firstOperand, (BigDecimal) secondOperand, configurationBuilder));
+        else
+            operands.push(new Node(operator, firstOperand, secondOperand, configurationBuilder, cancellationFlag));
+    }
+
+    @Override
+    BigDecimal pop()
+    {
+        Object operand = operands.pop();
+        if (operand instanceof BigDecimal)
+            return (BigDecimal) operand;
+        try
+        {
+            return ((Node) operand).invoke();
+        }
+        catch (CancellationException exception)
+        {
+            // A part solved in another thread may have failed first, cancelling the rest of them
+            RuntimeException failure = cancellationFlag.getFailure();
+            throw failure == null || failure instanceof CancellationException ? exception : failure;
+        }
+    }
+
+    @Override
+    boolean isEmpty()
+    {
+        return operands.isEmpty();
+    }
+
+    /**
+     * Helper method to estimate the cost of applying the given operator to the given operands,
+     * measured as the amount of products between pairs of decimal digits required to do so. Only
+     * the operations performed with {@link BigDecimal} arithmetic can be expensive; the ones
+     * performed with {@code double} values and the ones with invalid operands have a negligible
+     * cost.
+     *
+     * @param operator      a {@link String} with the operator to apply
+     * @param firstOperand  the first operand or the only one for unary operators
+     * @param secondOperand the second operand of binary operators
+     * @return The estimated cost of applying the given operator
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private double estimateCost(String operator, BigDecimal firstOperand, BigDecimal secondOperand)
+    {
+        switch (operator)
+        {
+            case "!":
+                double number = firstOperand.doubleValue(), digits = AlgorithmImplementation.estimateFactorialDigits(number);
+                if (firstOperand.signum() <= 0 || firstOperand.remainder(BigDecimal.ONE).signum() != 0
+                        || digits > AlgorithmImplementation.MAX_FACTORIAL_DIGITS)
+                    return 0;
+                int workingPrecision = AlgorithmImplementation.getWorkingMathContext(configurationBuilder).getPrecision();
+                if (workingPrecision > 0)
+                    digits = Math.min(digits, workingPrecision);
+                // Around 18 / log10(n) factors fit in every partial product, whose multiplications
+                // involve 18 digits and half of the final digits on average
+                return number * Math.log10(number) * digits / 2;
+            case "*":
+                return (double) firstOperand.precision() * secondOperand.precision();
+            case "/":
+                return (double) (firstOperand.precision() + secondOperand.precision()) * 16;
+            case "+":
+            case "-":
+                return Math.max(firstOperand.precision(), secondOperand.precision());
+            default:
+                return firstOperand.precision();
+        }
+    }
+
+    /**
+     * Node of the tree of pending operations. It holds an operator and its operands, which are
+     * either {@link BigDecimal} values or other nodes, and it's only created when at least one of
+     * those operands is pending or when the operation is expensive. The tree
+     * is solved without recursion, since it can be as deep as the amount of operators of the Math
+     * expression, like in a long chain of additions that starts with an expensive factorial.
+     * Every node of the same tree shares the same {@link AlgorithmImplementation.CancellationFlag},
+     * so the nodes forked to other threads stop when the Math expression is cancelled.
+     */
+    private static final class Node extends RecursiveTask<BigDecimal>
+    {
+        private final String operator;
+        private final Object firstOperand, secondOperand;
+        private final ConfigurationBuilder configurationBuilder;
+        private final AlgorithmImplementation.CancellationFlag cancellationFlag;
+        private BigDecimal value;
+        private boolean secondOperandForked;
+
+        private Node(String operator, Object firstOperand, Object secondOperand, ConfigurationBuilder configurationBuilder,
+                     AlgorithmImplementation.CancellationFlag cancellationFlag)
+        {
+            this.operator = operator;
+            this.firstOperand = firstOperand;
+            this.secondOperand = secondOperand;
+            this.configurationBuilder = configurationBuilder;
+            this.cancellationFlag = cancellationFlag;
+        }
+
+        /**
+         * Solves the tree of pending operations whose root is this node, visiting its nodes in
+         * post-order using an explicit stack. When both operands of a node are pending, the second
+         * one is forked before solving the first one, and it's joined once the first one is solved.
+         * When any operation fails, the whole Math expression is cancelled.
+         */
+        @Override
+        protected BigDecimal compute()
+        {
+            ArrayDeque<Node> pendingNodes = new ArrayDeque<>();
+            pendingNodes.push(this);
+            AlgorithmImplementation.CancellationFlag previousFlag = AlgorithmImplementation.setCancellationFlag(cancellationFlag);
+            try
+            {
+                while (!pendingNodes.isEmpty())
+                {
+                    Node node = pendingNodes.peek();
+                    BigDecimal first = valueOf(node.firstOperand);
+                    if (first == null)
+                    {
+                        if (node.secondOperand != null && valueOf(node.secondOperand) == null)
+                        {
+                            ((Node) node.secondOperand).fork();
+                            node.secondOperandForked = true;
+                        }
+                        pendingNodes.push((Node) node.firstOperand);
+                        continue;
+                    }
+                    BigDecimal second = null;
+                    if (node.secondOperandForked)
+                        second = ((Node) node.secondOperand).join();
+                    else if (node.secondOperand != null && (second = valueOf(node.secondOperand)) == null)
+                    {
+                        pendingNodes.push((Node) node.secondOperand);
+                        continue;
+                    }
+                    AlgorithmImplementation.checkForCancellation();
+                    node.value = calculate(node.operator, first, second, node.configurationBuilder);
+                    pendingNodes.pop();
+                }
+            }
+            catch (RuntimeException exception)
+            {
+                cancellationFlag.cancel(exception);
+                cancelForkedOperands(pendingNodes);
+                throw exception;
+            }
+            catch (Error error)
+            {
+                cancellationFlag.cancel(new CancellationException("The evaluation of the Math expression failed"));
+                cancelForkedOperands(pendingNodes);
+                throw error;
+            }
+            finally
+            {
+                AlgorithmImplementation.setCancellationFlag(previousFlag);
+            }
+            return value;
+        }
+
+        /**
+         * Helper method to get the value of an operand, which is {@code null} while it's a node
+         * that hasn't been solved yet.
+         */
+        private static BigDecimal valueOf(Object operand)
+        {
+            return operand instanceof Node ? ((Node) operand).value : (BigDecimal) operand;
+        }
+
+        private static void cancelForkedOperands(ArrayDeque<Node> pendingNodes)
+        {
+            for (Node node : pendingNodes)
+                if (node.secondOperandForked)
+                    ((Node) node.secondOperand).cancel(false);
+        }
+    }
+}
\ No newline at end of file
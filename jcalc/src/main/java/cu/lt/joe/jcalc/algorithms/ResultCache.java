@@ -0,0 +1,258 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import cu.lt.joe.jcalc.ConfigurationBuilder;
+import cu.lt.joe.jcalc.ResultCacheStatistics;
+
+/**
+ * This class holds the cache shared by the whole process to reuse the results of expensive unary
+ * operations, like factorials, roots, logarithms and trigonometric functions, when the result
+ * cache is enabled in the {@link ConfigurationBuilder}. Every result is identified by its
+ * operator, its operand and the settings that can change it, like the use of degrees for
+ * trigonometric functions. Since those results only depend on the value of their operand, the
+ * operands are compared ignoring their scale, so the results of {@code (50)!}, {@code (50.0)!} and
+ * {@code (5E1)!} share the same entry. Only the results that took at least
+ * {@link #ADMISSION_COST_NANOS} to be calculated are cached, since looking up the cheaper ones
+ * would take about as long as calculating them again. The memory used by the cache is estimated
+ * from the size of every cached operand and result, and the results used least recently are
+ * discarded when that memory exceeds the capacity of the cache. Every access is made while
+ * holding a lock, but the results are calculated outside of it, so two threads may calculate the
+ * same missing result at the same time.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+public final class ResultCache
+{
+    /**
+     * Minimum time that calculating a result must take for that result to be cached. It's about
+     * ten times the time required to look up a result in the cache.
+     */
+    private static final long ADMISSION_COST_NANOS = 1000;
+    /**
+     * Estimated amount of bytes used by a {@link BigDecimal}, its unscaled value and the header of
+     * the array holding its digits, without counting those digits.
+     */
+    private static final long BIG_DECIMAL_OVERHEAD_BYTES = 80;
+    /**
+     * Estimated amount of bytes used by every entry of the cache, without counting its operand and
+     * its result.
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+    private static final long DEFAULT_CAPACITY_BYTES = 16L << 20;
+    private static final Object lock = new Object();
+    private static final LinkedHashMap<Key, CachedResult> cachedResults = new LinkedHashMap<>(64, 0.75f, true);
+    private static long capacityBytes = DEFAULT_CAPACITY_BYTES, usedBytes = 0;
+    private static long hitCount = 0, missCount = 0, rejectionCount = 0, evictionCount = 0;
+
+    private ResultCache()
+    {
+    }
+
+    /**
+     * Checks when the results of the given operator can be cached. The negation and the binary
+     * operators are excluded, since calculating them takes about as long as hashing their operands.
+     *
+     * @param operator a {@link String} with the operator to check
+     * @return {@code true} or {@code false} when the results of the given operator can be cached
+     * or not
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static boolean isCacheable(String operator)
+    {
+        return AlgorithmImplementation.isUnaryOperator(operator) && !operator.equals("u-");
+    }
+
+    /**
+     * Returns the cached result of applying the given unary operator to the given operand or, when
+     * it's not cached, calculates it and caches it if it took long enough to be calculated.
+     *
+     * @param operator             a {@link String} with the unary operator to apply
+     * @param operand              the operand to apply the operator to
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how the operation is performed
+     * @return The result of applying the given operator to the given operand
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static BigDecimal getOrCalculate(String operator, BigDecimal operand, ConfigurationBuilder configurationBuilder)
+    {
+        Key key = new Key(operator, operand, getSettings(operator, configurationBuilder));
+        synchronized (lock)
+        {
+            CachedResult cachedResult = cachedResults.get(key);
+            if (cachedResult != null)
+            {
+                hitCount++;
+                return cachedResult.result;
+            }
+            missCount++;
+        }
+        long startTime = System.nanoTime();
+        BigDecimal result = OperandStack.calculateWithoutCache(operator, operand, null, configurationBuilder);
+        long cost = System.nanoTime() - startTime;
+        long size = ENTRY_OVERHEAD_BYTES + estimateSize(operand) + estimateSize(result);
+        synchronized (lock)
+        {
+            if (cost < ADMISSION_COST_NANOS || size > capacityBytes / 8)
+                rejectionCount++;
+            else
+            {
+                CachedResult replacedResult = cachedResults.put(key, new CachedResult(result, size));
+                usedBytes += size - (replacedResult == null ? 0 : replacedResult.size);
+                evictLeastRecentlyUsed();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method to get a snapshot of the statistics of the cache.
+     *
+     * @return A {@link ResultCacheStatistics} with the current statistics of the cache
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static ResultCacheStatistics getStatistics()
+    {
+        synchronized (lock)
+        {
+            return new ResultCacheStatistics(hitCount, missCount, rejectionCount, evictionCount, cachedResults.size(), usedBytes, capacityBytes);
+        }
+    }
+
+    /**
+     * Discards every cached result and resets the statistics of the cache. Its capacity is kept.
+     *
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void clear()
+    {
+        synchronized (lock)
+        {
+            cachedResults.clear();
+            usedBytes = hitCount = missCount = rejectionCount = evictionCount = 0;
+        }
+    }
+
+    /**
+     * Sets the maximum amount of bytes that can be used by the cached results, discarding the
+     * results used least recently when the new capacity is lower than the memory already in use.
+     * A single result can't take more than an eighth of that capacity.
+     *
+     * @param capacityBytes the maximum amount of bytes that can be used by the cached results
+     * @throws IllegalArgumentException when the given capacity is negative
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static void setCapacity(long capacityBytes)
+    {
+        if (capacityBytes < 0)
+            throw new IllegalArgumentException("The capacity of the result cache can't be negative");
+        synchronized (lock)
+        {
+            ResultCache.capacityBytes = capacityBytes;
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Discards the results used least recently until the memory used by the cache doesn't exceed
+     * its capacity. It must be called while holding the lock.
+     */
+    private static void evictLeastRecentlyUsed()
+    {
+        Iterator<Map.Entry<Key, CachedResult>> entries = cachedResults.entrySet().iterator();
+        while (usedBytes > capacityBytes && entries.hasNext())
+        {
+            usedBytes -= entries.next().getValue().size;
+            entries.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Helper method to pack the settings that can change the result of the given operator into an
+     * {@code int}, so the results obtained with different settings are cached separately.
+     */
+    private static int getSettings(String operator, ConfigurationBuilder configurationBuilder)
+    {
+        int accuracyTier = configurationBuilder.getAccuracyTier().ordinal();
+        if (AlgorithmImplementation.isTrigonometricOperator(operator))
+            return accuracyTier << 1 | (configurationBuilder.isUseRadiansEnabled() ? 1 : 0);
+        if (AlgorithmImplementation.isFunctionalOperator(operator))
+            return accuracyTier;
+        if (AlgorithmImplementation.isFactorialOperator(operator) && configurationBuilder.isPrecisionAwareEvaluationEnabled())
+            return configurationBuilder.getPrecision();
+        return 0;
+    }
+
+    private static long estimateSize(BigDecimal value)
+    {
+        return BIG_DECIMAL_OVERHEAD_BYTES + ((value.unscaledValue().bitLength() + 31) >>> 5 << 2);
+    }
+
+    /**
+     * The operator, the operand and the settings identifying a cached result.
+     */
+    private static final class Key
+    {
+        private final String operator;
+        private final BigDecimal operand;
+        private final int settings, hashCode;
+
+        private Key(String operator, BigDecimal operand, int settings)
+        {
+            this.operator = operator;
+            this.operand = normalize(operand);
+            this.settings = settings;
+            this.hashCode = 31 * (31 * operator.hashCode() + this.operand.hashCode()) + settings;
+        }
+
+        /**
+         * Helper method to get the representation of the given operand without trailing zeros,
+         * so equal operands written with different scales have the same
+         * {@link BigDecimal#equals(Object)} and {@link BigDecimal#hashCode()}. The digits of the
+         * operand are never expanded, so operands with huge exponents stay as small as they are.
+         */
+        private static BigDecimal normalize(BigDecimal operand)
+        {
+            return operand.stripTrailingZeros();
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Key))
+                return false;
+            Key key = (Key) object;
+            return hashCode == key.hashCode && settings == key.settings && operator.equals(key.operator) && operand.equals(key.operand);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A cached result along with the estimated amount of bytes used by its entry.
+     */
+    private static final class CachedResult
+    {
+        private final BigDecimal result;
+        private final long size;
+
+        private CachedResult(BigDecimal result, long size)
+        {
+            this.result = result;
+            this.size = size;
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package cu.lt.joe.jcalc.algorithms;
 
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.ArrayDeque;
 import cu.lt.joe.jcalc.ConfigurationBuilder;
 import cu.lt.joe.jcalc.JCalc;
+import cu.lt.joe.jcalc.ProgressListener;
 import cu.lt.joe.jcalc.exceptions.SyntaxErrorException;
 import cu.lt.joe.jcalc.exceptions.UnbalancedParenthesesException;
 
@@ -65,13 +68,112 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
      */
     public static String solveMathExpression(String mathExpression, ConfigurationBuilder configurationBuilder)
     {
-        ArrayDeque<BigDecimal> output = new ArrayDeque<>();
+        try
+        {
+            return solveMathExpression(ExpressionSource.of(mathExpression), configurationBuilder);
+        }
+        catch (PrecisionLossException exception)
+        {
+            return solveMathExpression(ExpressionSource.of(mathExpression), withExactArithmetic(configurationBuilder));
+        }
+    }
+
+    /**
+     * Takes a Math expression and a {@link ConfigurationBuilder} instance to solve that Math
+     * expression in the same way as {@link #solveMathExpression(String, ConfigurationBuilder)}
+     * does, but stopping as soon as possible when the current thread is interrupted while solving
+     * it. It's used by the asynchronous evaluations, which are cancelled by interrupting the
+     * thread solving them.
+     *
+     * @param mathExpression       a {@link String} with the Math expression to process with the
+     *                             Shunting Yard algorithm
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return A {@link String} that contains the result of solving the given Math expression or
+     * {@code null} when the expression is empty
+     * @throws java.util.concurrent.CancellationException when the current thread is interrupted
+     *                                                    while solving the Math expression
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static String solveInterruptibly(String mathExpression, ConfigurationBuilder configurationBuilder)
+    {
+        CancellationFlag previousFlag = setCancellationFlag(new CancellationFlag());
+        try
+        {
+            return solveMathExpression(mathExpression, configurationBuilder);
+        }
+        finally
+        {
+            setCancellationFlag(previousFlag);
+        }
+    }
+
+    /**
+     * Takes a {@link Reader} containing a Math expression and a {@link ConfigurationBuilder}
+     * instance to solve that Math expression in the same way as
+     * {@link #solveMathExpression(String, ConfigurationBuilder)} does, but reading the Math
+     * expression while it's being solved instead of loading it all at once. Since every operation
+     * is performed as soon as the precedence of the operators allows it, the memory required to
+     * solve a Math expression depends on how deeply nested it is and not on its length. Since the
+     * Math expression can't be read twice, it's always solved using exact arithmetic, even when the
+     * precision-aware evaluation is enabled.
+     *
+     * @param reader               the {@link Reader} to read the Math expression from
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @param progressListener     a {@link ProgressListener} to notify every time a new chunk of
+     *                             characters is read or {@code null}
+     * @return A {@link String} that contains the result of solving the given Math expression or
+     * {@code null} when the expression is empty
+     * @throws UncheckedIOException when an I/O error occurs while reading the Math expression
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    public static String solveMathExpression(Reader reader, ConfigurationBuilder configurationBuilder, ProgressListener progressListener)
+    {
+        return solveMathExpression(ExpressionSource.of(reader, progressListener), withExactArithmetic(configurationBuilder));
+    }
+
+    /**
+     * Helper method to get the settings to use when a Math expression must be solved using exact
+     * arithmetic, which are the given ones with the precision-aware evaluation disabled.
+     *
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return A {@link ConfigurationBuilder} instance with the precision-aware evaluation disabled
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static ConfigurationBuilder withExactArithmetic(ConfigurationBuilder configurationBuilder)
+    {
+        return configurationBuilder.isPrecisionAwareEvaluationEnabled() ?
+                new ConfigurationBuilder(configurationBuilder).setUsePrecisionAwareEvaluation(false) : configurationBuilder;
+    }
+
+    /**
+     * Solves the Math expression represented by the given {@link ExpressionSource}, reading every
+     * character only once, except for the character right before the current one when a number or
+     * the name of a function ends.
+     *
+     * @param mathExpression       an {@link ExpressionSource} with the Math expression to process
+     *                             with the Shunting Yard algorithm
+     * @param configurationBuilder a {@link ConfigurationBuilder} instance with the settings to
+     *                             customize how Math expressions are treated
+     * @return A {@link String} that contains the result of solving the given Math expression or
+     * {@code null} when the expression is empty
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static String solveMathExpression(ExpressionSource mathExpression, ConfigurationBuilder configurationBuilder)
+    {
+        OperandStack output = OperandStack.create(configurationBuilder);
         ArrayDeque<String> operators = new ArrayDeque<>();
         StringBuilder numberBuilder = new StringBuilder();
-        int openParenthesesCount = 0, actualExpressionLength = mathExpression.length() - 1;
+        int openParenthesesCount = 0;
 
         char previouslyFoundChar = '\u0000';
-        for (int i = 0; i <= actualExpressionLength; i++)
+        for (long i = 0; mathExpression.hasCharAt(i); i++)
         {
             char currentChar = mathExpression.charAt(i);
             if (!Character.isWhitespace(currentChar))
@@ -93,8 +195,8 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                     if (output.isEmpty())
                         throw new SyntaxErrorException("Factorial operator '!' has no preceding number");
                     while (!operators.isEmpty() && (isUnaryOperator(operators.peek()) && !operators.peek().equals("u-")))
-                        performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
-                    performStacking(output, currentChar + "", configurationBuilder.isUseRadiansEnabled());
+                        performStacking(output, operators.pop());
+                    performStacking(output, currentChar + "");
                 }
                 else if ((currentChar == '-' || currentChar == '+') && (i == 0 || previouslyFoundChar == '(' || (isOperator(previouslyFoundChar + "") && !isFactorialOperator(previouslyFoundChar + ""))))
                 {
@@ -114,7 +216,7 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                     else if (previouslyFoundChar == '(')
                         output.push(BigDecimal.ONE);
                     while (!operators.isEmpty() && !operators.peek().equals("("))
-                        performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
+                        performStacking(output, operators.pop());
                     if (operators.isEmpty() && !configurationBuilder.isBalanceParenthesesEnabled())
                         throw new UnbalancedParenthesesException("Parentheses are not well placed");
                     if (!operators.isEmpty())
@@ -124,17 +226,17 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                             openParenthesesCount--;
                     }
                     if (!operators.isEmpty() && isUnaryOperator(operators.peek()))
-                        performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
+                        performStacking(output, operators.pop());
                 }
                 else if (isOperator(currentChar + ""))
                 {
                     if ((isOperator(previouslyFoundChar + "") || previouslyFoundChar == '(') && !isFactorialOperator(previouslyFoundChar + ""))
                         throw new SyntaxErrorException("Unexpected character '" + currentChar + "' found after '" + previouslyFoundChar + "'");
-                    if (i < actualExpressionLength)
+                    if (mathExpression.hasCharAt(i + 1))
                     {
                         currentChar = currentChar == '×' ? '*' : currentChar == '÷' ? '/' : currentChar;
                         while (!operators.isEmpty() && !operators.peek().equals("(") && getOperatorPrecedence(operators.peek()) >= getOperatorPrecedence(currentChar + "") && currentChar != '^')
-                            performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
+                            performStacking(output, operators.pop());
                         operators.push(currentChar + "");
                     }
                 }
@@ -143,8 +245,8 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                     if (i == 0 || isNumber(previouslyFoundChar + "") || isOperator(previouslyFoundChar + "") || previouslyFoundChar == ')' || previouslyFoundChar == '(')
                     {
                         StringBuilder unaryOperatorBuilder = new StringBuilder();
-                        for (; i < mathExpression.length() && Character.isLetter(currentChar); i++,
-                                currentChar = i < mathExpression.length() ? mathExpression.charAt(i) : '\u0000')
+                        for (; mathExpression.hasCharAt(i) && Character.isLetter(currentChar); i++,
+                                currentChar = mathExpression.hasCharAt(i) ? mathExpression.charAt(i) : '\u0000')
                             unaryOperatorBuilder.append(currentChar);
                         String assembledUnaryOperator = unaryOperatorBuilder.toString();
                         unaryOperatorBuilder.setLength(0);
@@ -168,7 +270,7 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                 }
                 else if (isPartOfANumber(currentChar))
                 {
-                    for (; i < mathExpression.length(); i++)
+                    for (; mathExpression.hasCharAt(i); i++)
                     {
                         currentChar = mathExpression.charAt(i);
                         if (!Character.isWhitespace(currentChar))
@@ -201,7 +303,7 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
                         output.push(new BigDecimal(numberStr));
                         numberBuilder.setLength(0);
                         while (!operators.isEmpty() && (isUnaryOperator(operators.peek()) && !operators.peek().equals("u-")))
-                            performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
+                            performStacking(output, operators.pop());
                     }
                     else
                         throw new SyntaxErrorException("Found an invalid number \"" + numberStr + "\" while parsing the given expression");
@@ -219,7 +321,7 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
             while (openParenthesesCount-- > 0)
             {
                 while (!operators.isEmpty() && !operators.peek().equals("("))
-                    performStacking(output, operators.pop(), configurationBuilder.isUseRadiansEnabled());
+                    performStacking(output, operators.pop());
                 if (operators.isEmpty() || !operators.peek().equals("("))
                     throw new UnbalancedParenthesesException("Failed to balance the parentheses in the given expression");
                 operators.pop();
@@ -232,32 +334,27 @@ public class ShuntingYardAlgImpl extends AlgorithmImplementation
             if (operator.equals("(") && !configurationBuilder.isBalanceParenthesesEnabled())
                 throw new UnbalancedParenthesesException("Parentheses are not well placed");
             else
-                performStacking(output, operator, configurationBuilder.isUseRadiansEnabled());
+                performStacking(output, operator);
         }
         return formatResult(output.pop(), configurationBuilder.getPrecision());
     }
 
     /**
      * Helper method to perform common stacking operations when an operator is found. It takes an
-     * {@link ArrayDeque} that represents the output stack and an operator to perform any required
-     * operation over the stack. It automatically pops all the needed elements, pushes back the
-     * results and it doesn't return any value as it performs all the operations directly on the
-     * given {@link ArrayDeque}.
+     * {@link OperandStack} that represents the output stack and an operator to perform any
+     * required operation over the stack. It automatically pops all the needed elements, pushes
+     * back the results and it doesn't return any value as it performs all the operations directly
+     * on the given {@link OperandStack}. Before performing any operation, it checks if the
+     * evaluation of the Math expression has been cancelled.
      *
-     * @param stack      the {@link ArrayDeque} with the stacked items
-     * @param operator   a {@link String} with the found operator
-     * @param useRadians a {@code boolean} to set if trigonometric functions will use radians or
-     *                   degrees when calculating a result
+     * @param stack    the {@link OperandStack} with the stacked items
+     * @param operator a {@link String} with the found operator
      * @author <a href="https://github.com/jr20xx">jr20xx</a>
      * @since 3.0.0
      */
-    private static void performStacking(ArrayDeque<BigDecimal> stack, String operator, boolean useRadians)
+    private static void performStacking(OperandStack stack, String operator)
     {
-        if (isTrigonometricOperator(operator))
-            stack.push(performTrigonometricCalculation(stack.pop(), operator, useRadians));
-        else if (isUnaryOperator(operator))
-            stack.push(makeUnaryOperation(stack.pop(), operator));
-        else
-            stack.push(makeOperation(stack.pop(), operator, stack.pop()));
+        checkForCancellation();
+        stack.apply(operator);
     }
 }
\ No newline at end of file
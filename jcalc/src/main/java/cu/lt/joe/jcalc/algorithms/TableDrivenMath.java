@@ -0,0 +1,365 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * This class contains fast approximations of the trigonometric and logarithmic functions used when
+ * the fast approximations are enabled in the {@link cu.lt.joe.jcalc.ConfigurationBuilder}. Every
+ * function reduces its argument to a small remainder around one of the values stored in a lookup
+ * table and then uses a short polynomial to account for that remainder. The error of every result
+ * is at most 10<sup>-9</sup> times the biggest value between 1 and the magnitude of the exact
+ * result, with the only exception of the tangent, whose result can't be that accurate when it's
+ * too close to one of its poles. Trigonometric functions working with degrees return exact results
+ * for the multiples of 30 and 45 degrees whose result is a rational number.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class TableDrivenMath
+{
+    /**
+     * Amount of entries stored in the lookup tables. It must be a power of 2.
+     */
+    private static final int TABLE_SIZE = 256;
+    /**
+     * Biggest magnitude of an angle in radians that can be reduced accurately. Any bigger angle is
+     * delegated to {@link FastMath}.
+     */
+    private static final double MAX_REDUCIBLE_RADIANS = 1e6;
+    /**
+     * Distance in degrees between two consecutive entries of the trigonometric lookup tables. Its
+     * value (45/32) is exactly representable as a {@code double}.
+     */
+    private static final double DEGREES_STEP = 360.0 / TABLE_SIZE;
+    /**
+     * Distance in radians between two consecutive entries of the trigonometric lookup tables, split
+     * in three parts to reduce big angles without losing accuracy. The first part keeps only 26
+     * significant bits so its product by any table index or reduction multiplier is exact, while
+     * the last one holds the difference between 2π and its closest {@code double} value.
+     */
+    private static final double RADIANS_STEP_HIGH = Double.longBitsToDouble(Double.doubleToRawLongBits(2 * Math.PI / TABLE_SIZE) & ~0x7FFFFFFL),
+            RADIANS_STEP_MIDDLE = 2 * Math.PI / TABLE_SIZE - RADIANS_STEP_HIGH,
+            RADIANS_STEP_LOW = 2.4492935982947064e-16 / TABLE_SIZE;
+    private static final double LN_2 = Math.log(2), INVERSE_LN_2 = 1 / LN_2, INVERSE_LN_10 = 1 / Math.log(10),
+            SQRT_2 = Math.sqrt(2), STEPS_PER_RADIAN = TABLE_SIZE / (2 * Math.PI);
+    private static final double[] SINES = new double[TABLE_SIZE], COSINES = new double[TABLE_SIZE],
+            LOGARITHMS = new double[TABLE_SIZE + 1], INVERSES = new double[TABLE_SIZE + 1];
+
+    static
+    {
+        for (int i = 0; i < TABLE_SIZE; i++)
+        {
+            double high = i * RADIANS_STEP_HIGH, middle = i * RADIANS_STEP_MIDDLE, angle = high + middle,
+                    residual = (high - angle) + middle + i * RADIANS_STEP_LOW;
+            SINES[i] = StrictMath.sin(angle) + StrictMath.cos(angle) * residual;
+            COSINES[i] = StrictMath.cos(angle) - StrictMath.sin(angle) * residual;
+        }
+        for (int i = 0; i <= TABLE_SIZE; i++)
+        {
+            double center = 0.5 + (double) i / TABLE_SIZE;
+            LOGARITHMS[i] = StrictMath.log(center);
+            INVERSES[i] = 1 / center;
+        }
+    }
+
+    private TableDrivenMath()
+    {
+    }
+
+    /**
+     * Calculates an approximation of the sine of an angle given in radians.
+     *
+     * @param radians the angle in radians
+     * @return The sine of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double sin(double radians)
+    {
+        if (!(Math.abs(radians) <= MAX_REDUCIBLE_RADIANS))
+            return FastMath.sin(radians);
+        long index = Math.round(radians * STEPS_PER_RADIAN);
+        return sinFromTable((int) (index & (TABLE_SIZE - 1)), reduceRadians(radians, index));
+    }
+
+    /**
+     * Calculates an approximation of the cosine of an angle given in radians.
+     *
+     * @param radians the angle in radians
+     * @return The cosine of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double cos(double radians)
+    {
+        if (!(Math.abs(radians) <= MAX_REDUCIBLE_RADIANS))
+            return FastMath.cos(radians);
+        long index = Math.round(radians * STEPS_PER_RADIAN);
+        return cosFromTable((int) (index & (TABLE_SIZE - 1)), reduceRadians(radians, index));
+    }
+
+    /**
+     * Calculates an approximation of the tangent of an angle given in radians.
+     *
+     * @param radians the angle in radians
+     * @return The tangent of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double tan(double radians)
+    {
+        if (!(Math.abs(radians) <= MAX_REDUCIBLE_RADIANS))
+            return FastMath.tan(radians);
+        long index = Math.round(radians * STEPS_PER_RADIAN);
+        int tableIndex = (int) (index & (TABLE_SIZE - 1));
+        double remainder = reduceRadians(radians, index);
+        return sinFromTable(tableIndex, remainder) / cosFromTable(tableIndex, remainder);
+    }
+
+    /**
+     * Calculates an approximation of the sine of an angle given in degrees. The result is exact
+     * when the angle is a multiple of 90 degrees or when its sine is 1/2 or -1/2.
+     *
+     * @param degrees the angle in degrees
+     * @return The sine of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double sinDegrees(double degrees)
+    {
+        double reducedDegrees = degrees % 360;
+        if (reducedDegrees % 30 == 0)
+            switch (Math.floorMod((int) (reducedDegrees / 30), 12))
+            {
+                case 0:
+                case 6:
+                    return 0;
+                case 1:
+                case 5:
+                    return 0.5;
+                case 3:
+                    return 1;
+                case 7:
+                case 11:
+                    return -0.5;
+                case 9:
+                    return -1;
+            }
+        int index = (int) Math.round(reducedDegrees / DEGREES_STEP);
+        return sinFromTable(index & (TABLE_SIZE - 1), Math.toRadians(reducedDegrees - index * DEGREES_STEP));
+    }
+
+    /**
+     * Calculates an approximation of the cosine of an angle given in degrees. The result is exact
+     * when the angle is a multiple of 90 degrees or when its cosine is 1/2 or -1/2.
+     *
+     * @param degrees the angle in degrees
+     * @return The cosine of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double cosDegrees(double degrees)
+    {
+        double reducedDegrees = degrees % 360;
+        if (reducedDegrees % 30 == 0)
+            switch (Math.floorMod((int) (reducedDegrees / 30), 12))
+            {
+                case 0:
+                    return 1;
+                case 2:
+                case 10:
+                    return 0.5;
+                case 3:
+                case 9:
+                    return 0;
+                case 4:
+                case 8:
+                    return -0.5;
+                case 6:
+                    return -1;
+            }
+        int index = (int) Math.round(reducedDegrees / DEGREES_STEP);
+        return cosFromTable(index & (TABLE_SIZE - 1), Math.toRadians(reducedDegrees - index * DEGREES_STEP));
+    }
+
+    /**
+     * Calculates an approximation of the tangent of an angle given in degrees. The result is exact
+     * when the angle is a multiple of 45 degrees, being infinite for odd multiples of 90 degrees.
+     *
+     * @param degrees the angle in degrees
+     * @return The tangent of the given angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double tanDegrees(double degrees)
+    {
+        double reducedDegrees = degrees % 360;
+        if (reducedDegrees % 45 == 0)
+            switch (Math.floorMod((int) (reducedDegrees / 45), 4))
+            {
+                case 0:
+                    return 0;
+                case 1:
+                    return 1;
+                case 3:
+                    return -1;
+            }
+        return sinDegrees(reducedDegrees) / cosDegrees(reducedDegrees);
+    }
+
+    /**
+     * Calculates an approximation of the natural logarithm of a given number.
+     *
+     * @param number the number to calculate its natural logarithm
+     * @return The natural logarithm of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double ln(double number)
+    {
+        if (!(number > 0) || number == Double.POSITIVE_INFINITY)
+            return Math.log(number);
+        int exponent = getReducedExponent(number);
+        return exponent * LN_2 + lnFromTable(Math.scalb(number, -exponent));
+    }
+
+    /**
+     * Calculates an approximation of the decimal logarithm of a given number.
+     *
+     * @param number the number to calculate its decimal logarithm
+     * @return The decimal logarithm of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double log10(double number)
+    {
+        return ln(number) * INVERSE_LN_10;
+    }
+
+    /**
+     * Calculates an approximation of the binary logarithm of a given number. The result is exact
+     * when the given number is a power of 2.
+     *
+     * @param number the number to calculate its binary logarithm
+     * @return The binary logarithm of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static double log2(double number)
+    {
+        if (!(number > 0) || number == Double.POSITIVE_INFINITY)
+            return Math.log(number);
+        int exponent = getReducedExponent(number);
+        return exponent + lnFromTable(Math.scalb(number, -exponent)) * INVERSE_LN_2;
+    }
+
+    /**
+     * Helper method to get the exponent of the power of 2 that divides the given positive number
+     * leaving a quotient between the square root of 2 divided by 2 and the square root of 2.
+     *
+     * @param number the positive and finite number to decompose
+     * @return The exponent of the power of 2 that divides the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static int getReducedExponent(double number)
+    {
+        int exponent = Math.getExponent(number);
+        if (exponent == Double.MIN_EXPONENT - 1)
+            exponent = Math.getExponent(number * 0x1p54) - 54;
+        return Math.scalb(number, -exponent) > SQRT_2 ? exponent + 1 : exponent;
+    }
+
+    /**
+     * Helper method to subtract from an angle in radians the given amount of steps between two
+     * consecutive entries of the trigonometric lookup tables.
+     *
+     * @param radians the angle in radians to reduce
+     * @param steps   the amount of steps to subtract
+     * @return The remainder of the reduction, which is never bigger than half a step
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double reduceRadians(double radians, long steps)
+    {
+        return ((radians - steps * RADIANS_STEP_HIGH) - steps * RADIANS_STEP_MIDDLE) - steps * RADIANS_STEP_LOW;
+    }
+
+    /**
+     * Helper method to calculate the sine of the angle stored at the given index of the lookup
+     * tables plus a small remainder.
+     *
+     * @param index     the index of the lookup tables
+     * @param remainder the remainder in radians to add to the angle stored at the given index
+     * @return The sine of the resulting angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double sinFromTable(int index, double remainder)
+    {
+        double squaredRemainder = remainder * remainder;
+        return SINES[index] * cosOfRemainder(squaredRemainder) + COSINES[index] * sinOfRemainder(remainder, squaredRemainder);
+    }
+
+    /**
+     * Helper method to calculate the cosine of the angle stored at the given index of the lookup
+     * tables plus a small remainder.
+     *
+     * @param index     the index of the lookup tables
+     * @param remainder the remainder in radians to add to the angle stored at the given index
+     * @return The cosine of the resulting angle
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double cosFromTable(int index, double remainder)
+    {
+        double squaredRemainder = remainder * remainder;
+        return COSINES[index] * cosOfRemainder(squaredRemainder) - SINES[index] * sinOfRemainder(remainder, squaredRemainder);
+    }
+
+    /**
+     * Helper method to evaluate the Taylor polynomial of the sine for a remainder that's never
+     * bigger than half a step of the trigonometric lookup tables.
+     *
+     * @param remainder        the remainder in radians
+     * @param squaredRemainder the square of the remainder
+     * @return The sine of the given remainder
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double sinOfRemainder(double remainder, double squaredRemainder)
+    {
+        return remainder + remainder * squaredRemainder * (-1.0 / 6 + squaredRemainder * (1.0 / 120 - squaredRemainder / 5040));
+    }
+
+    /**
+     * Helper method to evaluate the Taylor polynomial of the cosine for a remainder that's never
+     * bigger than half a step of the trigonometric lookup tables.
+     *
+     * @param squaredRemainder the square of the remainder in radians
+     * @return The cosine of the remainder
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double cosOfRemainder(double squaredRemainder)
+    {
+        return 1 + squaredRemainder * (-0.5 + squaredRemainder * (1.0 / 24 - squaredRemainder / 720));
+    }
+
+    /**
+     * Helper method to calculate the natural logarithm of a number between the square root of 2
+     * divided by 2 and the square root of 2, using the closest center stored in the logarithmic
+     * lookup tables and the Taylor polynomial of ln(1 + x) for the remaining ratio.
+     *
+     * @param number the number to calculate its natural logarithm
+     * @return The natural logarithm of the given number
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    private static double lnFromTable(double number)
+    {
+        int index = (int) Math.round((number - 0.5) * TABLE_SIZE);
+        double ratio = (number - (0.5 + (double) index / TABLE_SIZE)) * INVERSES[index];
+        return LOGARITHMS[index] + ratio * (1 + ratio * (-0.5 + ratio * (1.0 / 3 + ratio * (-0.25 + ratio * (0.2 - ratio / 6)))));
+    }
+}
@@ -0,0 +1,123 @@
+package cu.lt.joe.jcalc;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class contains the loops used to apply an operation to columns of operands using the SIMD
+ * instructions exposed by the {@code jdk.incubator.vector} module. Every method processes as many
+ * elements as possible using the preferred vector size of the running platform and leaves the
+ * remaining ones to the plain loops found in {@link ScalarColumnKernels}. This class must only be
+ * loaded when the {@code jdk.incubator.vector} module is available.
+ *
+ * @author <a href="https://github.com/jr20xx">jr20xx</a>
+ * @since 3.1.0
+ */
+final class VectorColumnKernels
+{
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorColumnKernels()
+    {
+    }
+
+    /**
+     * Adds every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the sums are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void add(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(results.length); i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, firstOperands, i).add(DoubleVector.fromArray(SPECIES, secondOperands, i)).intoArray(results, i);
+        ScalarColumnKernels.add(firstOperands, secondOperands, results, i);
+    }
+
+    /**
+     * Subtracts every second operand from the first operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the differences are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void subtract(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(results.length); i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, firstOperands, i).sub(DoubleVector.fromArray(SPECIES, secondOperands, i)).intoArray(results, i);
+        ScalarColumnKernels.subtract(firstOperands, secondOperands, results, i);
+    }
+
+    /**
+     * Multiplies every pair of operands found at the same position of both columns.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the products are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void multiply(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(results.length); i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, firstOperands, i).mul(DoubleVector.fromArray(SPECIES, secondOperands, i)).intoArray(results, i);
+        ScalarColumnKernels.multiply(firstOperands, secondOperands, results, i);
+    }
+
+    /**
+     * Divides every first operand by the second operand found at the same position.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the quotients are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void divide(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(results.length); i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, firstOperands, i).div(DoubleVector.fromArray(SPECIES, secondOperands, i)).intoArray(results, i);
+        ScalarColumnKernels.divide(firstOperands, secondOperands, results, i);
+    }
+
+    /**
+     * Raises every first operand to the power of the second operand found at the same position.
+     * The powers are not vectorized, since the vectorized power might differ in the last bit from
+     * the one used by {@link JCalc}, so they are calculated by the plain loop instead.
+     *
+     * @param firstOperands  the column with the first operands
+     * @param secondOperands the column with the second operands
+     * @param results        the column where the powers are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void pow(double[] firstOperands, double[] secondOperands, double[] results)
+    {
+        ScalarColumnKernels.pow(firstOperands, secondOperands, results, 0);
+    }
+
+    /**
+     * Calculates the square root of every operand.
+     *
+     * @param operands the column with the operands
+     * @param results  the column where the square roots are stored
+     * @author <a href="https://github.com/jr20xx">jr20xx</a>
+     * @since 3.1.0
+     */
+    static void sqrt(double[] operands, double[] results)
+    {
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(results.length); i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, operands, i).sqrt().intoArray(results, i);
+        ScalarColumnKernels.sqrt(operands, results, i);
+    }
+}
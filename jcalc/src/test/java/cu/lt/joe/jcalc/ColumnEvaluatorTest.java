@@ -0,0 +1,89 @@
+package cu.lt.joe.jcalc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.math.BigDecimal;
+import java.util.Random;
+import cu.lt.joe.jcalc.exceptions.NotNumericResultException;
+import cu.lt.joe.jcalc.exceptions.NumericalDomainErrorException;
+import org.junit.jupiter.api.Test;
+
+public class ColumnEvaluatorTest
+{
+    private static final double[] FIRST_OPERANDS = {1, 2.5, -3, 4, 9, 16, 0.25, 100, 7};
+    private static final double[] SECOND_OPERANDS = {2, 0.5, 3, -4, 0.5, 2, 2, 1, 7};
+
+    @Test
+    void testArithmeticOperations()
+    {
+        assertArrayEquals(new double[]{3, 3, 0, 0, 9.5, 18, 2.25, 101, 14}, ColumnEvaluator.applyOperation(FIRST_OPERANDS, "+", SECOND_OPERANDS));
+        assertArrayEquals(new double[]{-1, 2, -6, 8, 8.5, 14, -1.75, 99, 0}, ColumnEvaluator.applyOperation(FIRST_OPERANDS, "-", SECOND_OPERANDS));
+        assertArrayEquals(new double[]{2, 1.25, -9, -16, 4.5, 32, 0.5, 100, 49}, ColumnEvaluator.applyOperation(FIRST_OPERANDS, "×", SECOND_OPERANDS));
+        assertArrayEquals(new double[]{0.5, 5, -1, -1, 18, 8, 0.125, 100, 1}, ColumnEvaluator.applyOperation(FIRST_OPERANDS, "/", SECOND_OPERANDS));
+    }
+
+    @Test
+    void testPowerAndSquareRoot()
+    {
+        assertArrayEquals(new double[]{1, Math.sqrt(2.5), -27, 1 / 256.0, 3, 256, 0.0625, 100, 823543},
+                ColumnEvaluator.applyOperation(FIRST_OPERANDS, "^", SECOND_OPERANDS), 1e-12);
+        assertArrayEquals(new double[]{1, Math.sqrt(2.5), Double.NaN, 2, 3, 4, 0.5, 10, Math.sqrt(7)},
+                ColumnEvaluator.applySquareRoot(FIRST_OPERANDS));
+    }
+
+    @Test
+    void testResultsMatchTheOnesOfSingleRows()
+    {
+        Random random = new Random(42);
+        double[] firstOperands = new double[1027], secondOperands = new double[firstOperands.length];
+        for (int i = 0; i < firstOperands.length; i++)
+        {
+            firstOperands[i] = random.nextDouble() * 200 - 100;
+            secondOperands[i] = random.nextInt(4) == 0 ? (random.nextInt(10) + 1) * (random.nextBoolean() ? 1 : -1) : random.nextDouble() * 20 - 10;
+        }
+        double[] sums = ColumnEvaluator.applyOperation(firstOperands, "+", secondOperands),
+                differences = ColumnEvaluator.applyOperation(firstOperands, "-", secondOperands),
+                products = ColumnEvaluator.applyOperation(firstOperands, "*", secondOperands),
+                quotients = ColumnEvaluator.applyOperation(firstOperands, "/", secondOperands),
+                powers = ColumnEvaluator.applyOperation(firstOperands, "^", secondOperands),
+                roots = ColumnEvaluator.applySquareRoot(firstOperands);
+        for (int i = 0; i < firstOperands.length; i++)
+        {
+            String firstOperand = "(" + BigDecimal.valueOf(firstOperands[i]).toPlainString() + ")",
+                    secondOperand = "(" + BigDecimal.valueOf(secondOperands[i]).toPlainString() + ")";
+            assertMatchesSingleRow(firstOperand + "+" + secondOperand, sums[i], null);
+            assertMatchesSingleRow(firstOperand + "-" + secondOperand, differences[i], null);
+            assertMatchesSingleRow(firstOperand + "*" + secondOperand, products[i], null);
+            assertMatchesSingleRow(firstOperand + "/" + secondOperand, quotients[i], null);
+            assertMatchesSingleRow(firstOperand + "^" + secondOperand, powers[i], NotNumericResultException.class);
+            assertMatchesSingleRow("√" + firstOperand, roots[i], NumericalDomainErrorException.class);
+        }
+    }
+
+    /**
+     * Checks that the result of a single row matches the one obtained with
+     * {@link JCalc#solveMathExpression(String)}, which is rounded to 12 decimal digits and is
+     * calculated with {@link BigDecimal} values for some operators, so both results are only
+     * expected to be equal up to that rounding. Rows whose result is not numeric must make it
+     * throw the given exception instead.
+     */
+    private static void assertMatchesSingleRow(String expression, double columnResult, Class<? extends RuntimeException> expectedException)
+    {
+        if (Double.isNaN(columnResult))
+            assertThrows(expectedException, () -> JCalc.solveMathExpression(expression));
+        else
+        {
+            double expectedResult = Double.parseDouble(JCalc.solveMathExpression(expression));
+            assertEquals(expectedResult, columnResult, Math.max(Math.abs(expectedResult), 1) * 1e-11, expression);
+        }
+    }
+
+    @Test
+    void testIllegalArgumentException()
+    {
+        assertThrows(IllegalArgumentException.class, () -> ColumnEvaluator.applyOperation(FIRST_OPERANDS, "+", new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> ColumnEvaluator.applyOperation(FIRST_OPERANDS, "!", SECOND_OPERANDS));
+        assertThrows(IllegalArgumentException.class, () -> ColumnEvaluator.applySquareRoot(null));
+    }
+}
@@ -0,0 +1,45 @@
+package cu.lt.joe.jcalc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+public class EvaluationBudgetTest
+{
+    private static final int WARM_UP_ITERATIONS = 2000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int ITERATIONS_PER_ROUND = 50;
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/evaluation_budgets.csv")
+    void solveMathExpressionsWithinAllocationBudgets(String expression, boolean useRadians, long allocationBudget)
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean, "Allocated bytes can't be measured in this JVM");
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled(), "Allocated bytes can't be measured in this JVM");
+
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseRadians(useRadians);
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++)
+            JCalc.solveMathExpression(expression, configurationBuilder);
+
+        // The elapsed time is only reported, since it depends on the load of the machine running the tests
+        long threadId = Thread.currentThread().getId(), allocatedBytes = Long.MAX_VALUE, elapsedNanos = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++)
+        {
+            long initialBytes = allocationMXBean.getThreadAllocatedBytes(threadId), initialTime = System.nanoTime();
+            for (int i = 0; i < ITERATIONS_PER_ROUND; i++)
+                JCalc.solveMathExpression(expression, configurationBuilder);
+            long finalTime = System.nanoTime(), finalBytes = allocationMXBean.getThreadAllocatedBytes(threadId);
+            allocatedBytes = Math.min(allocatedBytes, (finalBytes - initialBytes) / ITERATIONS_PER_ROUND);
+            elapsedNanos = Math.min(elapsedNanos, (finalTime - initialTime) / ITERATIONS_PER_ROUND);
+        }
+        System.out.println("Solving \"" + expression + "\" allocated " + allocatedBytes + " bytes and took " + elapsedNanos / 1000 + " µs");
+
+        long measuredBytes = allocatedBytes;
+        assertTrue(measuredBytes <= allocationBudget, () -> "Solving \"" + expression + "\" allocated " + measuredBytes + " bytes, but the budget is " + allocationBudget + " bytes");
+    }
+}
\ No newline at end of file
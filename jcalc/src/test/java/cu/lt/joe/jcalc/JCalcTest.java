@@ -1,8 +1,33 @@
 package cu.lt.joe.jcalc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import cu.lt.joe.jcalc.exceptions.InfiniteResultException;
+import cu.lt.joe.jcalc.exceptions.SyntaxErrorException;
+import org.apache.commons.math3.util.FastMath;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
@@ -15,6 +40,22 @@ public class JCalcTest
         assertNull(JCalc.solveMathExpression(null));
     }
 
+    @Test
+    void testWarmUp() throws Exception
+    {
+        // A new class loader is used to know which classes are loaded by every call, since the
+        // classes used by other tests are already loaded by the class loader of this test
+        try (IsolatedClassLoader classLoader = new IsolatedClassLoader())
+        {
+            Class<?> isolatedJCalc = classLoader.loadClass(JCalc.class.getName());
+            assertEquals("45", isolatedJCalc.getMethod("solveMathExpression", String.class).invoke(null, "2 * 3 + 5 * 2^3 - √(16) + cbrt(8) / 2 + (2)!"));
+            assertFalse(classLoader.isLoaded(FastMath.class.getName()), "Math expressions without trigonometric or logarithmic functions must not load FastMath");
+            isolatedJCalc.getMethod("warmUp").invoke(null);
+            assertTrue(classLoader.isLoaded(FastMath.class.getName()));
+            assertTrue(classLoader.isLoaded("cu.lt.joe.jcalc.algorithms.TableDrivenMath"));
+        }
+    }
+
     @Test
     void testIllegalArgumentException()
     {
@@ -28,10 +69,347 @@ public class JCalcTest
         assertEquals(expectedResult, JCalc.solveMathExpression(expression));
     }
 
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/basic_math_expressions.csv")
+    void solveBasicMathExpressionsFromReaders(String expression, String expectedResult) throws IOException
+    {
+        assertEquals(expectedResult, JCalc.solveMathExpression(new StringReader(expression), new ConfigurationBuilder(), null));
+        assertEquals(expectedResult, JCalc.solveMathExpression(new ChunkedReader(expression, 1), new ConfigurationBuilder(), null));
+        assertEquals(expectedResult, JCalc.solveMathExpression(Channels.newChannel(new ByteArrayInputStream(expression.getBytes(StandardCharsets.UTF_8))), new ConfigurationBuilder(), null));
+    }
+
     @ParameterizedTest
     @CsvFileSource(files = "src/test/resources/expressions_with_E_notation.csv")
     void solveMathExpressionsWithENotation(String expression, String expectedResult)
     {
         assertEquals(expectedResult, JCalc.solveMathExpression(expression));
     }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/realistic_expressions.csv")
+    void solveRealisticMathExpressions(String expression, boolean useRadians, String expectedResult)
+    {
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseRadians(useRadians)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseRadians(useRadians).setUseParallelEvaluation(true)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseRadians(useRadians).setUseResultCache(true)));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/expressions_with_big_results.csv")
+    void solveMathExpressionsWithPrecisionAwareEvaluation(String expression, String expectedResult) throws IOException
+    {
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUsePrecisionAwareEvaluation(true)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseParallelEvaluation(true)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseParallelEvaluation(true).setUsePrecisionAwareEvaluation(true)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(new StringReader(expression), new ConfigurationBuilder().setUsePrecisionAwareEvaluation(true), null));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/expressions_with_fast_approximations.csv")
+    void solveMathExpressionsWithFastApproximations(String expression, boolean useRadians, String expectedResult)
+    {
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseFastApproximations(true).setUseRadians(useRadians)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, new ConfigurationBuilder().setAccuracyTier(AccuracyTier.FAST).setUseRadians(useRadians)));
+    }
+
+    @Test
+    void testAccuracyTiers()
+    {
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
+        assertEquals(AccuracyTier.EXACT, configurationBuilder.getAccuracyTier());
+        assertEquals(AccuracyTier.FAST, configurationBuilder.setUseFastApproximations(true).getAccuracyTier());
+        assertTrue(configurationBuilder.isFastApproximationsEnabled());
+        assertEquals(AccuracyTier.EXACT, configurationBuilder.setUseFastApproximations(false).getAccuracyTier());
+        assertThrows(IllegalArgumentException.class, () -> configurationBuilder.setAccuracyTier(null));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/expressions_with_cached_results.csv")
+    void solveMathExpressionsWithResultCache(String expression, boolean useRadians, String expectedResult)
+    {
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseRadians(useRadians).setUseResultCache(true);
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, configurationBuilder));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, configurationBuilder));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression, configurationBuilder.setUseParallelEvaluation(true)));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(files = "src/test/resources/expressions_with_exceptions.csv")
+    void solveMathExpressionsWithExceptions(String expression, String exceptionName) throws ClassNotFoundException
+    {
+        Class<? extends Throwable> expectedException = Class.forName("cu.lt.joe.jcalc.exceptions." + exceptionName).asSubclass(Throwable.class);
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseResultCache(true);
+        assertThrows(expectedException, () -> JCalc.solveMathExpression(expression));
+        assertThrows(expectedException, () -> JCalc.solveMathExpression(expression, configurationBuilder));
+        assertThrows(expectedException, () -> JCalc.solveMathExpression(expression, configurationBuilder));
+        assertThrows(expectedException, () -> JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUseParallelEvaluation(true)));
+        assertThrows(expectedException, () -> JCalc.solveMathExpression(expression, new ConfigurationBuilder().setUsePrecisionAwareEvaluation(true)));
+    }
+
+    @Test
+    void testResultCacheStatistics()
+    {
+        // Only the facts that don't depend on how long every result takes to be calculated are
+        // checked, since the results calculated too quickly are not admitted into the cache
+        JCalc.clearResultCache();
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseResultCache(true);
+        assertEquals("2000", JCalc.solveMathExpression("(2000)! / (1999)!", configurationBuilder));
+        ResultCacheStatistics statistics = JCalc.getResultCacheStatistics();
+        assertEquals(0, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(2, statistics.getEntryCount() + statistics.getRejectionCount());
+        assertTrue(statistics.getUsedBytes() <= statistics.getCapacityBytes());
+
+        assertEquals("2000", JCalc.solveMathExpression("(2000)! / (1999)!", configurationBuilder));
+        assertEquals("2000", JCalc.solveMathExpression("(2000)! / (1999)!", new ConfigurationBuilder().setUseResultCache(true).setUsePrecisionAwareEvaluation(true)));
+        statistics = JCalc.getResultCacheStatistics();
+        assertTrue(statistics.getHitCount() > 0);
+        assertEquals(6, statistics.getHitCount() + statistics.getMissCount());
+        assertEquals(statistics.getMissCount(), statistics.getEntryCount() + statistics.getRejectionCount());
+        assertEquals((double) statistics.getHitCount() / 6, statistics.getHitRate(), 1e-9);
+
+        JCalc.clearResultCache();
+        assertEquals(0, JCalc.getResultCacheStatistics().getEntryCount());
+        assertEquals(0, JCalc.getResultCacheStatistics().getHitRate());
+    }
+
+    @Test
+    void testResultCacheIgnoresTheScaleOfOperands()
+    {
+        JCalc.clearResultCache();
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseResultCache(true);
+        String expectedResult = JCalc.solveMathExpression("(2000)!", configurationBuilder);
+        assertEquals(expectedResult, JCalc.solveMathExpression("(2000.0)!", configurationBuilder));
+        assertEquals(expectedResult, JCalc.solveMathExpression("(2E3)!", configurationBuilder));
+        ResultCacheStatistics statistics = JCalc.getResultCacheStatistics();
+        assertTrue(statistics.getHitCount() > 0);
+        assertEquals(3, statistics.getHitCount() + statistics.getMissCount());
+        assertTrue(statistics.getEntryCount() <= 1);
+        JCalc.clearResultCache();
+    }
+
+    @Test
+    void testResultCacheEviction()
+    {
+        JCalc.clearResultCache();
+        long defaultCapacity = JCalc.getResultCacheStatistics().getCapacityBytes();
+        try
+        {
+            JCalc.setResultCacheCapacity(16 << 10);
+            ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseResultCache(true);
+            for (int i = 1000; i < 1020; i++)
+                assertEquals(String.valueOf(i + 1), JCalc.solveMathExpression("(" + (i + 1) + ")! / (" + i + ")!", configurationBuilder));
+            ResultCacheStatistics statistics = JCalc.getResultCacheStatistics();
+            assertTrue(statistics.getEvictionCount() > 0);
+            assertTrue(statistics.getUsedBytes() <= 16 << 10);
+
+            assertEquals("1", JCalc.solveMathExpression("(3000)! / (3000)!", configurationBuilder));
+            assertTrue(JCalc.getResultCacheStatistics().getRejectionCount() > 0);
+            assertThrows(IllegalArgumentException.class, () -> JCalc.setResultCacheCapacity(-1));
+        }
+        finally
+        {
+            JCalc.setResultCacheCapacity(defaultCapacity);
+            JCalc.clearResultCache();
+        }
+    }
+
+    @Test
+    void testInfiniteResultWithFastApproximations()
+    {
+        assertThrows(InfiniteResultException.class, () -> JCalc.solveMathExpression("tan(90)", new ConfigurationBuilder().setUseFastApproximations(true).setUseRadians(false)));
+    }
+
+    @Test
+    void testAsynchronousEvaluation() throws Exception
+    {
+        assertEquals("46", JCalc.solveAsync("2 * 3 + 5 * 2^3").get(10, TimeUnit.SECONDS));
+        assertNull(JCalc.solveAsync(null).get(10, TimeUnit.SECONDS));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> JCalc.solveAsync("2 ** 3").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SyntaxErrorException.class, exception.getCause());
+        assertThrows(IllegalArgumentException.class, () -> JCalc.solveAsync("2", new ConfigurationBuilder(), null));
+    }
+
+    @Test
+    void testBatchedAsynchronousEvaluation() throws Exception
+    {
+        List<CompletableFuture<String>> results = JCalc.solveBatchAsync(Arrays.asList("1 + 1", "2 ** 3", "5!", null), new ConfigurationBuilder());
+        assertEquals(4, results.size());
+        assertEquals("2", results.get(0).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SyntaxErrorException.class, assertThrows(ExecutionException.class, () -> results.get(1).get(10, TimeUnit.SECONDS)).getCause());
+        assertEquals("120", results.get(2).get(10, TimeUnit.SECONDS));
+        assertNull(results.get(3).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancellationReleasesTheExecutor() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            CountDownLatch started = new CountDownLatch(1);
+            List<CompletableFuture<String>> results = JCalc.solveBatchAsync(Arrays.asList("(2^20)!", "3!"), new ConfigurationBuilder(), task -> executor.execute(() -> {
+                started.countDown();
+                task.run();
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(results.get(0).cancel(true));
+            assertEquals("6", results.get(1).get(10, TimeUnit.SECONDS));
+            assertEquals("4", JCalc.solveAsync("2 + 2", new ConfigurationBuilder(), executor).get(10, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConfigurationIsCopiedWhenSubmitted() throws Exception
+    {
+        List<Runnable> tasks = new ArrayList<>();
+        ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setPrecision(3);
+        CompletableFuture<String> result = JCalc.solveAsync("1 / 3", configurationBuilder, tasks::add);
+        configurationBuilder.setPrecision(5);
+        tasks.forEach(Runnable::run);
+        assertEquals("0.333", result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testEvaluationInInterruptedThread()
+    {
+        Thread.currentThread().interrupt();
+        try
+        {
+            assertEquals("4", JCalc.solveMathExpression("2 + 2"));
+            assertEquals("4", JCalc.solveMathExpression("2 + 2", new ConfigurationBuilder().setUseParallelEvaluation(true)));
+            assertTrue(Thread.currentThread().isInterrupted());
+            CompletableFuture<String> result = JCalc.solveAsync("2 + 2", new ConfigurationBuilder(), Runnable::run);
+            assertThrows(CancellationException.class, result::join);
+            assertTrue(Thread.currentThread().isInterrupted());
+        }
+        finally
+        {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testCancellationStopsForkedOperations() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            assertTrue(ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS));
+            ConfigurationBuilder configurationBuilder = new ConfigurationBuilder().setUseParallelEvaluation(true);
+            CompletableFuture<String> result = JCalc.solveAsync("(150001)! + (150000)!", configurationBuilder, executor);
+            // The evaluation is only cancelled once the second factorial is being solved in the common pool
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (ForkJoinPool.commonPool().getActiveThreadCount() == 0)
+            {
+                assertTrue(System.nanoTime() < deadline, "The second factorial was never forked");
+                Thread.yield();
+            }
+            assertTrue(result.cancel(true));
+            assertEquals("4", JCalc.solveAsync("2 + 2", configurationBuilder, executor).get(10, TimeUnit.SECONDS));
+            assertTrue(ForkJoinPool.commonPool().awaitQuiescence(1, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testVeryLongMathExpressionFromReader() throws IOException
+    {
+        String term = "(2 * 3.5 - 12 / 4) + ";
+        int repetitions = 300_000;
+        StringBuilder expression = new StringBuilder(term.length() * repetitions + 1);
+        for (int i = 0; i < repetitions; i++)
+            expression.append(term);
+        expression.append('1');
+        long[] lastProgress = {0};
+        assertEquals("1200001", JCalc.solveMathExpression(new ChunkedReader(expression.toString(), 7919), new ConfigurationBuilder(), charactersRead -> {
+            assertTrue(charactersRead > lastProgress[0]);
+            lastProgress[0] = charactersRead;
+        }));
+        assertEquals(expression.length(), lastProgress[0]);
+    }
+
+    @Test
+    void testReaderErrors()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JCalc.solveMathExpression((Reader) null, new ConfigurationBuilder(), null));
+        assertThrows(IllegalArgumentException.class, () -> JCalc.solveMathExpression(new StringReader("2"), null, null));
+        assertThrows(SyntaxErrorException.class, () -> JCalc.solveMathExpression(new StringReader("2 ** 3"), new ConfigurationBuilder(), null));
+        Reader failingReader = new Reader()
+        {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException
+            {
+                throw new IOException("Broken reader");
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+        assertThrows(IOException.class, () -> JCalc.solveMathExpression(failingReader, new ConfigurationBuilder(), null));
+    }
+
+    @Test
+    void testLongChainWithParallelEvaluation()
+    {
+        int additions = 100_000;
+        StringBuilder expression = new StringBuilder("(2000)!");
+        for (int i = 0; i < additions; i++)
+            expression.append(" + 1");
+        String expectedResult = JCalc.solveMathExpression("(2000)! + " + additions);
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression.toString(), new ConfigurationBuilder().setUseParallelEvaluation(true)));
+        assertEquals(expectedResult, JCalc.solveMathExpression(expression.toString(), new ConfigurationBuilder().setUseParallelEvaluation(true).setUsePrecisionAwareEvaluation(true)));
+    }
+
+    private static class ChunkedReader extends Reader
+    {
+        private final String content;
+        private final int chunkSize;
+        private int position = 0;
+
+        ChunkedReader(String content, int chunkSize)
+        {
+            this.content = content;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length)
+        {
+            if (position == content.length())
+                return -1;
+            int count = Math.min(Math.min(length, chunkSize), content.length() - position);
+            content.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+
+    private static class IsolatedClassLoader extends URLClassLoader
+    {
+        IsolatedClassLoader()
+        {
+            super(new URL[]{JCalc.class.getProtectionDomain().getCodeSource().getLocation(), FastMath.class.getProtectionDomain().getCodeSource().getLocation()}, null);
+        }
+
+        boolean isLoaded(String className)
+        {
+            return findLoadedClass(className) != null;
+        }
+    }
 }
\ No newline at end of file
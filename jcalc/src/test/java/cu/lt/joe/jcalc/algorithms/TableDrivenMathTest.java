@@ -0,0 +1,134 @@
+package cu.lt.joe.jcalc.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+import org.junit.jupiter.api.Test;
+
+public class TableDrivenMathTest
+{
+    private static final double ERROR_BOUND = 1e-9;
+    private static final int RANDOM_SAMPLES = 200_000;
+
+    private static void assertWithinErrorBound(double expected, double actual, String operation)
+    {
+        assertTrue(Math.abs(expected - actual) <= ERROR_BOUND * Math.max(1, Math.abs(expected)),
+                () -> operation + ": expected " + expected + " but was " + actual);
+    }
+
+    private static void checkRadians(DoubleUnaryOperator approximation, DoubleUnaryOperator reference, String name, boolean skipPoles)
+    {
+        Random random = new Random(26);
+        for (double x = -20 * Math.PI; x <= 20 * Math.PI; x += 1e-3)
+            if (!skipPoles || Math.abs(StrictMath.cos(x)) >= 1e-6)
+                assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+        for (int i = 0; i < RANDOM_SAMPLES; i++)
+        {
+            double x = (random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(16) - 8);
+            if (!skipPoles || Math.abs(StrictMath.cos(x)) >= 1e-6)
+                assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+        }
+        for (double x : new double[]{0, -0.0, Double.MIN_VALUE, 1e-300, Math.PI, -Math.PI, 2 * Math.PI, 1e6, -1e6, 1e6 + 1, 1e12, 1e300})
+            assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+    }
+
+    private static void checkDegrees(DoubleUnaryOperator approximation, DoubleUnaryOperator reference, String name, boolean skipPoles)
+    {
+        Random random = new Random(27);
+        for (double degrees = -1080; degrees <= 1080; degrees += 0.125)
+            if (!skipPoles || (degrees % 180 != 90 && degrees % 180 != -90))
+                assertWithinErrorBound(reference.applyAsDouble(Math.toRadians(degrees % 360)), approximation.applyAsDouble(degrees), name + "(" + degrees + "°)");
+        for (int i = 0; i < RANDOM_SAMPLES; i++)
+        {
+            double degrees = (random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(20) - 5);
+            double radians = Math.toRadians(degrees % 360);
+            if (!skipPoles || Math.abs(StrictMath.cos(radians)) >= 1e-6)
+                assertWithinErrorBound(reference.applyAsDouble(radians), approximation.applyAsDouble(degrees), name + "(" + degrees + "°)");
+        }
+    }
+
+    private static void checkLogarithm(DoubleUnaryOperator approximation, DoubleUnaryOperator reference, String name)
+    {
+        Random random = new Random(28);
+        for (int i = 0; i < RANDOM_SAMPLES; i++)
+        {
+            double x = Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE);
+            if (Double.isFinite(x) && x > 0)
+                assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+            x = 1 + (random.nextDouble() * 2 - 1) * Math.pow(10, -random.nextInt(15));
+            assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+        }
+        for (double x = 1e-3; x <= 1e3; x *= 1.0001)
+            assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+        for (double x : new double[]{Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, 0.5, 1, 2, Math.sqrt(2), Math.sqrt(0.5), 10})
+            assertWithinErrorBound(reference.applyAsDouble(x), approximation.applyAsDouble(x), name + "(" + x + ")");
+    }
+
+    @Test
+    void testSineAndCosineInRadians()
+    {
+        checkRadians(TableDrivenMath::sin, StrictMath::sin, "sin", false);
+        checkRadians(TableDrivenMath::cos, StrictMath::cos, "cos", false);
+    }
+
+    @Test
+    void testTangentInRadians()
+    {
+        checkRadians(TableDrivenMath::tan, StrictMath::tan, "tan", true);
+    }
+
+    @Test
+    void testTrigonometricFunctionsInDegrees()
+    {
+        checkDegrees(TableDrivenMath::sinDegrees, StrictMath::sin, "sin", false);
+        checkDegrees(TableDrivenMath::cosDegrees, StrictMath::cos, "cos", false);
+        checkDegrees(TableDrivenMath::tanDegrees, StrictMath::tan, "tan", true);
+    }
+
+    @Test
+    void testExactValuesInDegrees()
+    {
+        for (int turns = -3; turns <= 3; turns++)
+        {
+            double offset = 360.0 * turns;
+            assertEquals(0, TableDrivenMath.sinDegrees(offset), 0);
+            assertEquals(0.5, TableDrivenMath.sinDegrees(offset + 30));
+            assertEquals(1, TableDrivenMath.sinDegrees(offset + 90));
+            assertEquals(0.5, TableDrivenMath.sinDegrees(offset + 150));
+            assertEquals(0, TableDrivenMath.sinDegrees(offset + 180), 0);
+            assertEquals(-0.5, TableDrivenMath.sinDegrees(offset + 210));
+            assertEquals(-1, TableDrivenMath.sinDegrees(offset + 270));
+            assertEquals(1, TableDrivenMath.cosDegrees(offset));
+            assertEquals(0.5, TableDrivenMath.cosDegrees(offset + 60));
+            assertEquals(0, TableDrivenMath.cosDegrees(offset + 90), 0);
+            assertEquals(-0.5, TableDrivenMath.cosDegrees(offset + 120));
+            assertEquals(-1, TableDrivenMath.cosDegrees(offset + 180));
+            assertEquals(0, TableDrivenMath.tanDegrees(offset), 0);
+            assertEquals(1, TableDrivenMath.tanDegrees(offset + 45));
+            assertEquals(-1, TableDrivenMath.tanDegrees(offset + 135));
+            assertEquals(1, TableDrivenMath.tanDegrees(offset + 225));
+            assertTrue(Double.isInfinite(TableDrivenMath.tanDegrees(offset + 90)));
+        }
+    }
+
+    @Test
+    void testLogarithms()
+    {
+        checkLogarithm(TableDrivenMath::ln, StrictMath::log, "ln");
+        checkLogarithm(TableDrivenMath::log10, StrictMath::log10, "log");
+        checkLogarithm(TableDrivenMath::log2, x -> StrictMath.log(x) / StrictMath.log(2), "log2");
+        for (int exponent = -1074; exponent <= 1023; exponent++)
+            assertEquals(exponent, TableDrivenMath.log2(Math.scalb(1.0, exponent)));
+    }
+
+    @Test
+    void testSpecialValues()
+    {
+        assertTrue(Double.isNaN(TableDrivenMath.sin(Double.NaN)));
+        assertTrue(Double.isNaN(TableDrivenMath.cosDegrees(Double.POSITIVE_INFINITY)));
+        assertTrue(Double.isNaN(TableDrivenMath.ln(-1)));
+        assertEquals(Double.NEGATIVE_INFINITY, TableDrivenMath.log10(0));
+        assertEquals(Double.POSITIVE_INFINITY, TableDrivenMath.log2(Double.POSITIVE_INFINITY));
+    }
+}